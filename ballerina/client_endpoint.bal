@@ -56,7 +56,7 @@ public isolated client class DataPlaneClient {
 
         json jsonDocument = check document.cloneWithType(json);
         json updatedDocument = check jsonDocument.mergeJson({"id": documemtId});
-        return createDocument(databaseId, containerId, <map<json>>updatedDocument, partitionKey, requestOptions);
+        return createDocument(self, databaseId, containerId, <map<json>>updatedDocument, partitionKey, requestOptions);
     }
 
     # Replaces a document.
@@ -83,10 +83,32 @@ public isolated client class DataPlaneClient {
         if !document.hasKey("id") {
             updatedDocument = check updatedDocument.mergeJson({"id": documentId});
         }
-        return replaceDocument(databaseId, containerId, documentId, <map<json>>updatedDocument, partitionKey,
+        return replaceDocument(self, databaseId, containerId, documentId, <map<json>>updatedDocument, partitionKey,
         requestOptions);
     }
 
+    # Applies a set of patch operations to a document. Only the changed fields are sent to the service, instead of 
+    # the whole document.
+    #
+    # + databaseId - ID of the database to which the container belongs to
+    # + containerId - ID of the container which contains the existing document
+    # + documentId - ID of the document
+    # + patchOperations - The `cosmos_db:PatchOperation`s to apply, in order
+    # + partitionKey - The specific value related to the partition key field of the container 
+    # + patchOptions - The `cosmos_db:PatchOptions` which can be used to add a conditional predicate, an ETag 
+    # precondition and the other capabilities of `cosmos_db:RequestOptions`
+    # + return - If successful, returns `cosmos_db:DocumentResponse` with the patched document. Else returns error.
+    @display {label: "Patch Document"}
+    remote isolated function patchDocument(@display {label: "Database ID"} string databaseId,
+                                            @display {label: "Container ID"} string containerId,
+                                            @display {label: "Document ID"} string documentId,
+                                            @display {label: "Patch Operations"} PatchOperation[] patchOperations,
+                                            @display {label: "Partition Key"} int|float|decimal|string partitionKey,
+                                            @display {label: "Patch Options"} PatchOptions? patchOptions = ())
+                                            returns DocumentResponse|error {
+        return patchDocument(self, databaseId, containerId, documentId, patchOperations, partitionKey, patchOptions);
+    }
+
     # Gets information about a document.
     #
     # + databaseId - ID of the database to which the container belongs to
@@ -146,11 +168,54 @@ public isolated client class DataPlaneClient {
         'class: "io.ballerinax.cosmosdb.DataplaneClient"
     } external;
 
+    # Queries a single page of documents. The continuation token of the page can be handed to a later call to get the 
+    # next page, without holding the query open in between.
+    #
+    # + databaseId - ID of the database to which the container belongs to
+    # + containerId - ID of the container to query
+    # + sqlQuery - A string containing the SQL query, or a `cosmos_db:SqlQuerySpec` with a parameterized query
+    # + queryOptions - The `cosmos_db:QueryOptions` which can be used to add additional capabilities that can 
+    # override client configuration provided in the inilization
+    # + continuationToken - The continuation token of the previous page, or `()` to get the first page
+    # + pageSize - Maximum number of documents in the page
+    # + pageType - Type need to be inferred. A `cosmos_db:DocumentPage`, or a record which includes it.
+    # + return - If successful, returns the page. Else returns error.
+    @display {label: "Query Documents Page"}
+    remote isolated function queryDocumentsPage(@display {label: "Database ID"} string databaseId,
+                                            @display {label: "Container ID"} string containerId,
+                                            @display {label: "SQL Query"} string|SqlQuerySpec sqlQuery,
+                                            @display {label: "Optional Header Parameters"} QueryOptions? queryOptions
+                                            = (), @display {label: "Continuation Token"} string? continuationToken
+                                            = (), @display {label: "Page Size"} int? pageSize = (),
+                                            typedesc<DocumentPage> pageType = <>)
+                                            returns pageType|error = @java:Method {
+        'class: "io.ballerinax.cosmosdb.DataplaneClient"
+    } external;
+
+    # Gets a set of documents with a single request. 
+    #
+    # + databaseId - ID of the database to which the container belongs to
+    # + containerId - ID of the container which contains the documents
+    # + documentIds - The ID and partition key value of each document
+    # + options - The `cosmos_db:ReadManyOptions` for the request
+    # + returnType - Type need to be inferred.
+    # + return - If successful, returns the documents in the order of `documentIds`, with `()` in place of each 
+    # document which does not exist. Else returns error.
+    @display {label: "Get Documents"}
+    remote isolated function getDocuments(@display {label: "Database ID"} string databaseId,
+                                            @display {label: "Container ID"} string containerId,
+                                            @display {label: "Document IDs"} DocumentIdentity[] documentIds,
+                                            @display {label: "Read Many Options"} ReadManyOptions? options = (),
+                                            typedesc<record {}> returnType = <>)
+                                            returns (returnType?)[]|error = @java:Method {
+        'class: "io.ballerinax.cosmosdb.DataplaneClient"
+    } external;
+
     # Queries documents.
     #
     # + databaseId - ID of the database to which the container belongs to
     # + containerId - ID of the container to query
-    # + sqlQuery - A string containing the SQL query
+    # + sqlQuery - A string containing the SQL query, or a `cosmos_db:SqlQuerySpec` with a parameterized query
     # + queryOptions - The `cosmos_db:QueryOptions` which can be used to add additional capabilities that can 
     # override client configuration provided in the inilization
     # + returnType - Type need to be inferred.
@@ -158,13 +223,84 @@ public isolated client class DataPlaneClient {
     @display {label: "Query Documents"}
     remote isolated function queryDocuments(@display {label: "Database ID"} string databaseId,
                                             @display {label: "Container ID"} string containerId,
-                                            @display {label: "SQL Query"} string sqlQuery,
+                                            @display {label: "SQL Query"} string|SqlQuerySpec sqlQuery,
+                                            @display {label: "Optional Header Parameters"} QueryOptions? queryOptions
+                                            = (), typedesc<record {}> returnType = <>)
+                                            returns stream<returnType, error?>|error = @java:Method {
+        'class: "io.ballerinax.cosmosdb.DataplaneClient"
+    } external;
+
+    # Queries documents with a separate stream for each feed range of the container. The streams are independent, so 
+    # each one can be consumed by its own worker, and the number of workers decides how many ranges are read at once.
+    #
+    # + databaseId - ID of the database to which the container belongs to
+    # + containerId - ID of the container to query
+    # + sqlQuery - A string containing the SQL query, or a `cosmos_db:SqlQuerySpec` with a parameterized query
+    # + queryOptions - The `cosmos_db:QueryOptions` of the query of each feed range. Its `feedRange` is ignored.
+    # + returnType - Type need to be inferred.
+    # + return - If successful, returns a stream for each feed range. Else returns error.
+    @display {label: "Query Documents By Feed Range"}
+    remote isolated function queryDocumentsByFeedRange(@display {label: "Database ID"} string databaseId,
+                                            @display {label: "Container ID"} string containerId,
+                                            @display {label: "SQL Query"} string|SqlQuerySpec sqlQuery,
                                             @display {label: "Optional Header Parameters"} QueryOptions? queryOptions
                                             = (), typedesc<record {}> returnType = <>)
+                                            returns stream<returnType, error?>[]|error = @java:Method {
+        'class: "io.ballerinax.cosmosdb.DataplaneClient"
+    } external;
+
+    # Queries documents by querying the feed ranges of the container concurrently, and merges the results into a 
+    # single stream in the order they arrive. Suits scans of a whole container whose results need no ordering.
+    #
+    # + databaseId - ID of the database to which the container belongs to
+    # + containerId - ID of the container to query
+    # + sqlQuery - A string containing the SQL query, or a `cosmos_db:SqlQuerySpec` with a parameterized query. An 
+    #              `ORDER BY` of the query applies within each feed range only.
+    # + parallelQueryOptions - The number of feed ranges queried at once and the options of their queries
+    # + returnType - Type need to be inferred.
+    # + return - If successful, returns a `stream<returnType, error>`. Else returns error.
+    @display {label: "Query Documents In Parallel"}
+    remote isolated function queryDocumentsInParallel(@display {label: "Database ID"} string databaseId,
+                                            @display {label: "Container ID"} string containerId,
+                                            @display {label: "SQL Query"} string|SqlQuerySpec sqlQuery,
+                                            @display {label: "Parallel Query Options"} ParallelQueryOptions
+                                            parallelQueryOptions = {}, typedesc<record {}> returnType = <>)
                                             returns stream<returnType, error?>|error = @java:Method {
         'class: "io.ballerinax.cosmosdb.DataplaneClient"
     } external;
 
+    # Reads the changes made to the documents of a container, in the order they were made within each partition key. 
+    # The stream ends once it has caught up with the changes. Use `cosmos_db:getContinuationToken` on the stream to 
+    # get the position from which a later read can resume.
+    #
+    # + databaseId - ID of the database to which the container belongs to
+    # + containerId - ID of the container whose changes are read
+    # + changeFeedOptions - The `cosmos_db:ChangeFeedOptions` which select where to start and which partitions to read
+    # + returnType - Type need to be inferred.
+    # + return - If successful, returns a `stream<returnType, error>` of the latest version of the changed documents. 
+    # Else returns error.
+    @display {label: "Query Change Feed"}
+    remote isolated function queryChangeFeed(@display {label: "Database ID"} string databaseId,
+                                            @display {label: "Container ID"} string containerId,
+                                            @display {label: "Change Feed Options"} ChangeFeedOptions
+                                            changeFeedOptions = {}, typedesc<record {}> returnType = <>)
+                                            returns stream<returnType, error?>|error = @java:Method {
+        'class: "io.ballerinax.cosmosdb.DataplaneClient"
+    } external;
+
+    # Gets the feed ranges of a container. Each feed range can be read by a separate consumer through 
+    # `cosmos_db:ChangeFeedOptions.feedRange`.
+    #
+    # + databaseId - ID of the database to which the container belongs to
+    # + containerId - ID of the container
+    # + return - If successful, returns the serialized feed ranges. Else returns error.
+    @display {label: "Get Feed Ranges"}
+    remote isolated function getFeedRanges(@display {label: "Database ID"} string databaseId,
+                                            @display {label: "Container ID"} string containerId)
+                                            returns string[]|error = @java:Method {
+        'class: "io.ballerinax.cosmosdb.DataplaneClient"
+    } external;
+
     # Creates a new stored procedure. 
     #
     # + databaseId - ID of the database to which the container belongs to
@@ -181,7 +317,7 @@ public isolated client class DataPlaneClient {
                                                     @display {label: "Stored Procedure Function"} string
                                                     storedProcedure, CosmosStoredProcedureRequestOptions? options = ())
                                                     returns StoredProcedureResponse|error {
-        return createStoredProcedure(databaseId, containerId, storedProcedureId, storedProcedure, options);
+        return createStoredProcedure(self, databaseId, containerId, storedProcedureId, storedProcedure, options);
     }
 
     # Lists information of all stored procedures.
@@ -231,6 +367,124 @@ public isolated client class DataPlaneClient {
         'class: "io.ballerinax.cosmosdb.DataplaneClient"
     } external;
 
+    # Executes a stored procedure over a large array of documents. The documents are passed in chunks, whose size is 
+    # bounded by `maxChunkSize`, as the first parameter of the stored procedure. The stored procedure responds with 
+    # the number of documents of the chunk it processed, so that it can stop before exceeding its execution time 
+    # limit. The documents which are not processed yet are passed again until all of them are processed.
+    #
+    # + databaseId - ID of the database to which the container belongs to
+    # + containerId - ID of the container which contains the stored procedure
+    # + storedProcedureId - ID of the stored procedure to execute
+    # + partitionKey - The specific value related to the partition key field of the container
+    # + documents - The documents to pass to the stored procedure
+    # + bulkOptions - A record `cosmos_db:StoredProcedureBulkOptions` to specify the chunk size and the additional 
+    # parameters
+    # + return - If successful, returns `cosmos_db:StoredProcedureBulkResult`. Else returns `error`.
+    @display {label: "Execute Stored Procedure in Bulk"}
+    remote isolated function executeStoredProcedureInBulk(@display {label: "Database ID"} string databaseId,
+                                                          @display {label: "Container ID"} string containerId,
+                                                          @display {label: "Stored Procedure ID"}
+                                                          string storedProcedureId,
+                                                          @display {label: "Partition Key"} int|float|decimal|string
+                                                          partitionKey, @display {label: "Documents"}
+                                                          json[] documents, @display {label: "Bulk Options"}
+                                                          StoredProcedureBulkOptions? bulkOptions = ())
+                                                          returns StoredProcedureBulkResult|error = @java:Method {
+        'class: "io.ballerinax.cosmosdb.DataplaneClient"
+    } external;
+
+    # Executes a set of operations on documents with the bulk executor. The operations are grouped by the partition 
+    # key range they belong to and sent in micro batches.
+    #
+    # + databaseId - ID of the database to which the container belongs to
+    # + containerId - ID of the container where the operations are executed
+    # + operations - An array or a stream of `cosmos_db:ItemOperation` records. Operations read from a stream are 
+    # submitted to a single bulk execution in chunks of `streamChunkSize` operations, which are read ahead while the 
+    # results are consumed. Closing the result stream closes the stream of operations.
+    # + options - The `cosmos_db:BulkExecutionOptions` which can be used to configure the concurrency and the size of 
+    # the micro batches
+    # + return - If successful, returns a `stream<cosmos_db:ItemOperationResult, error?>` with the result of each 
+    # operation, in the order of completion. Else returns error.
+    @display {label: "Execute Bulk Operations"}
+    remote isolated function executeBulkOperations(@display {label: "Database ID"} string databaseId,
+                                                    @display {label: "Container ID"} string containerId,
+                                                    @display {label: "Operations"} ItemOperation[]|
+                                                    stream<ItemOperation, error?> operations,
+                                                    @display {label: "Bulk Execution Options"}
+                                                    BulkExecutionOptions? options = ()) returns
+                                                    @display {label: "Stream of Operation Results"}
+                                                    stream<ItemOperationResult, error?>|error {
+        if operations is ItemOperation[] {
+            return executeBulkOperations(self, databaseId, containerId, operations, 0, options);
+        }
+        BulkResultStream resultStream = check new (self, databaseId, containerId, operations, options ?: {});
+        return new stream<ItemOperationResult, error?>(resultStream);
+    }
+
+    # Executes the operations of a transactional batch. The operations are executed in order as a single transaction 
+    # in the logical partition of the batch.
+    #
+    # + databaseId - ID of the database to which the container belongs to
+    # + containerId - ID of the container where the batch is executed
+    # + batch - The `cosmos_db:TransactionalBatch` to execute
+    # + options - The `cosmos_db:TransactionalBatchOptions` for the batch
+    # + return - If successful, returns a `cosmos_db:TransactionalBatchResponse` with the result of each operation. 
+    # Else returns error.
+    @display {label: "Execute Transactional Batch"}
+    remote isolated function executeTransactionalBatch(@display {label: "Database ID"} string databaseId,
+                                                        @display {label: "Container ID"} string containerId,
+                                                        @display {label: "Batch"} TransactionalBatch batch,
+                                                        @display {label: "Batch Options"}
+                                                        TransactionalBatchOptions? options = ())
+                                                        returns TransactionalBatchResponse|error {
+        return executeTransactionalBatch(self, databaseId, containerId, batch.getPartitionKey(),
+            batch.getOperations(), options);
+    }
+
+    # Gets the statistics of the warm-up done when the client was initialized. A readiness check can use it to know 
+    # that the client is warm.
+    #
+    # + return - The statistics, or `()` if the client is not configured to warm up
+    public isolated function getWarmUpStatistics() returns WarmUpStatistics? = @java:Method {
+        'class: "io.ballerinax.cosmosdb.DataplaneClient"
+    } external;
+
+    # Gets the session token of the writes made through the client on a container, merged across its partition key 
+    # ranges. It can be passed to another client, such as in an HTTP header, which merges it with `mergeSessionToken` 
+    # to read the writes with `Session` consistency.
+    #
+    # + databaseId - ID of the database to which the container belongs to
+    # + containerId - ID of the container
+    # + return - The session token, or `()` if the client does not manage session tokens or has not written to the 
+    #            container
+    public isolated function getSessionToken(string databaseId, string containerId) returns string? = @java:Method {
+        'class: "io.ballerinax.cosmosdb.DataplaneClient"
+    } external;
+
+    # Merges a session token, such as one returned by `getSessionToken` of another client, into the session tokens 
+    # of a container, so that the later reads on the container see the writes it covers.
+    #
+    # + databaseId - ID of the database to which the container belongs to
+    # + containerId - ID of the container
+    # + sessionToken - The session token, in the format of the `x-ms-session-token` header
+    # + return - `()` if the token is merged, or an `Error` if the client does not manage session tokens or the 
+    #            token is malformed
+    public isolated function mergeSessionToken(string databaseId, string containerId, string sessionToken)
+            returns Error? = @java:Method {
+        'class: "io.ballerinax.cosmosdb.DataplaneClient"
+    } external;
+
+    # Gets the statistics of the document cache of the client.
+    #
+    # + return - The statistics, or `()` if the client does not cache documents
+    public isolated function getDocumentCacheStatistics() returns DocumentCacheStatistics? = @java:Method {
+        'class: "io.ballerinax.cosmosdb.DataplaneClient"
+    } external;
+
+    # Closes the client. The underlying connections are released once every client created with the same
+    # endpoint, token and client configuration has been closed.
+    #
+    # + return - Error if failed
     remote isolated function close() returns error? = @java:Method {
         'class: "io.ballerinax.cosmosdb.DataplaneClient"
     } external;
@@ -242,22 +496,59 @@ customConfig = ()) returns error? = @java:Method {
     'class: "io.ballerinax.cosmosdb.DataplaneClient"
 } external;
 
-isolated function createDocument(string databaseId, string containerId,
+isolated function createDocument(DataPlaneClient dataClient, string databaseId, string containerId,
                                     map<json> document, int|float|decimal|string partitionKey, RequestOptions?
                                     documentCreateOptions = ()) returns DocumentResponse|error = @java:Method {
     'class: "io.ballerinax.cosmosdb.DataplaneClient"
 } external;
 
-isolated function replaceDocument(string databaseId, string containerId, string id,
+isolated function replaceDocument(DataPlaneClient dataClient, string databaseId, string containerId, string id,
                                     map<json> document, int|float|decimal|string partitionKey,
                                     RequestOptions? documentCreateOptions = ()) returns DocumentResponse|error =
                                     @java:Method {
     'class: "io.ballerinax.cosmosdb.DataplaneClient"
 } external;
 
-isolated function createStoredProcedure(string databaseId, string containerId,
+isolated function patchDocument(DataPlaneClient dataClient, string databaseId, string containerId, string id,
+                                    PatchOperation[] patchOperations, int|float|decimal|string partitionKey,
+                                    PatchOptions? patchOptions = ()) returns DocumentResponse|error = @java:Method {
+    'class: "io.ballerinax.cosmosdb.DataplaneClient"
+} external;
+
+isolated function createStoredProcedure(DataPlaneClient dataClient, string databaseId, string containerId,
                                     string storedProcedureId, string storedProcedure,
                                     CosmosStoredProcedureRequestOptions? options = ()) returns
                                     StoredProcedureResponse|error = @java:Method {
     'class: "io.ballerinax.cosmosdb.DataplaneClient"
 } external;
+
+isolated function executeBulkOperations(DataPlaneClient dataClient, string databaseId, string containerId,
+                                    ItemOperation[] operations, int startIndex, BulkExecutionOptions? options = ())
+                                    returns stream<ItemOperationResult, error?>|error = @java:Method {
+    'class: "io.ballerinax.cosmosdb.DataplaneClient"
+} external;
+
+isolated function openBulkExecution(DataPlaneClient dataClient, string databaseId, string containerId,
+                                    BulkExecutionOptions options) returns handle|error = @java:Method {
+    'class: "io.ballerinax.cosmosdb.DataplaneClient"
+} external;
+
+isolated function getBulkResults(handle feed) returns stream<ItemOperationResult, error?> = @java:Method {
+    'class: "io.ballerinax.cosmosdb.DataplaneClient"
+} external;
+
+isolated function submitBulkOperations(handle feed, ItemOperation[] operations, int startIndex)
+                                    returns error? = @java:Method {
+    'class: "io.ballerinax.cosmosdb.DataplaneClient"
+} external;
+
+isolated function completeBulkOperations(handle feed) = @java:Method {
+    'class: "io.ballerinax.cosmosdb.DataplaneClient"
+} external;
+
+isolated function executeTransactionalBatch(DataPlaneClient dataClient, string databaseId, string containerId,
+                                    int|float|decimal|string partitionKey, ItemOperation[] operations,
+                                    TransactionalBatchOptions? options = ())
+                                    returns TransactionalBatchResponse|error = @java:Method {
+    'class: "io.ballerinax.cosmosdb.DataplaneClient"
+} external;
@@ -134,6 +134,82 @@ public enum ChangeFeedOption {
     INCREMENTAL = "Incremental feed"
 }
 
+# Type of an operation on a single document.
+# 
+# + CREATE_ITEM - Creates a document
+# + UPSERT_ITEM - Creates a document or replaces the existing document with the same ID
+# + REPLACE_ITEM - Replaces an existing document
+# + DELETE_ITEM - Deletes a document
+# + READ_ITEM - Reads a document
+# + PATCH_ITEM - Applies a set of patch operations to a document
+public enum ItemOperationType {
+    CREATE_ITEM = "Create",
+    UPSERT_ITEM = "Upsert",
+    REPLACE_ITEM = "Replace",
+    DELETE_ITEM = "Delete",
+    READ_ITEM = "Read",
+    PATCH_ITEM = "Patch"
+}
+
+# Type of a partial update on a property of a document.
+# 
+# + PATCH_ADD - Adds a property, or inserts an element into an array
+# + PATCH_SET - Sets the value of a property, adding the property if it does not exist
+# + PATCH_REPLACE - Replaces the value of an existing property
+# + PATCH_REMOVE - Removes a property
+# + PATCH_INCREMENT - Increments a numeric property by the given value
+# + PATCH_MOVE - Moves the value of a property to another path
+public enum PatchOperationType {
+    PATCH_ADD = "Add",
+    PATCH_SET = "Set",
+    PATCH_REPLACE = "Replace",
+    PATCH_REMOVE = "Remove",
+    PATCH_INCREMENT = "Increment",
+    PATCH_MOVE = "Move"
+}
+
+# Amount of information returned in a `cosmos_db:DocumentResponse` of a document operation.
+# 
+# + RESPONSE_MINIMAL - Leaves out the document, the response headers and the diagnostics. Write operations do not 
+#                      send the written document back over the wire.
+# + RESPONSE_STANDARD - Leaves out the response headers and the diagnostics
+# + RESPONSE_FULL - Returns every field
+public enum ResponseShape {
+    RESPONSE_MINIMAL = "Minimal",
+    RESPONSE_STANDARD = "Standard",
+    RESPONSE_FULL = "Full"
+}
+
+# Position of the change feed from which changes are read.
+# 
+# + START_FROM_BEGINNING - Reads all the changes retained in the container
+# + START_FROM_NOW - Reads only the changes made after the change feed is first queried
+# + START_FROM_POINT_IN_TIME - Reads the changes made after a given point in time
+public enum ChangeFeedStartFrom {
+    START_FROM_BEGINNING = "Beginning",
+    START_FROM_NOW = "Now",
+    START_FROM_POINT_IN_TIME = "PointInTime"
+}
+
+# Priority lane of the requests of a throughput control group.
+# 
+# + PRIORITY_INTERACTIVE - Latency sensitive requests, which are throttled last
+# + PRIORITY_BACKGROUND - Requests such as bulk operations and large queries, which are throttled first when the 
+#                         container is short of throughput
+public enum ThroughputPriority {
+    PRIORITY_INTERACTIVE = "Interactive",
+    PRIORITY_BACKGROUND = "Background"
+}
+
+# Operations which an availability strategy can hedge.
+# 
+# + HEDGED_READ - Point reads of documents
+# + HEDGED_QUERY - Queries and listings of documents
+public enum HedgedOperation {
+    HEDGED_READ = "Read",
+    HEDGED_QUERY = "Query"
+}
+
 # Version of the partition key if it is smaller than 100 bytes
 public const PARTITION_KEY_VERSION_1 = 1;
 
@@ -179,11 +255,9 @@ const CONTINUATION_HEADER = "x-ms-continuation";
 const SESSION_TOKEN_HEADER = "x-ms-session-token";
 const REQUEST_CHARGE_HEADER = "x-ms-request-charge";
 const RETRY_AFTER_MILLISECONDS = "x-ms-retry-after-ms";
+const RETRY_AFTER_HEADER = "Retry-After";
 const ITEM_COUNT_HEADER = "x-ms-item-count";
-
-# Time Zone
-const GMT_ZONE = "Europe/London";
-const TIME_ZONE_FORMAT = "E, dd MMM yyyy HH:mm:ss";
+const CONTENT_LENGTH_HEADER = "Content-Length";
 
 # Resources
 const RESOURCE_TYPE_DATABASES = "dbs";
@@ -200,11 +274,6 @@ const RESOURCE_TYPE_OFFERS = "offers";
 # Cosmos DB SQL API version
 const API_VERSION = "2018-12-31";
 
-# Token information
-const TOKEN_TYPE_MASTER = "master";
-const TOKEN_TYPE_RESOURCE = "resource";
-const TOKEN_VERSION = "1.0";
-
 # Encoding types
 const UTF8_URL_ENCODING = "UTF-8";
 
@@ -269,7 +338,6 @@ const SPACE_STRING = " ";
 const COLON_WITH_SPACE = " : ";
 const FORWARD_SLASH = "/";
 const EMPTY_STRING = "";
-const NEW_LINE = "\n";
 const HTTPS_REGEX = "^(https):#";
 const TRUE = "true";
 const EMPTY_ARRAY_STRING = "[]";
@@ -16,27 +16,29 @@
 
 import ballerina/jballerina.java;
 
-isolated function ofEpochSecond(int epochSeconds, int nanoAdjustments) returns handle = @java:Method {
-    'class: "java.time.Instant",
-    name: "ofEpochSecond"
+isolated function createSigner(string token) returns handle = @java:Method {
+    'class: "io.ballerinax.cosmosdb.RequestSigner"
 } external;
 
-isolated function getZoneId(handle zoneId) returns handle = @java:Method {
-    'class: "java.time.ZoneId",
-    name: "of"
+isolated function getRequestDate() returns string = @java:Method {
+    'class: "io.ballerinax.cosmosdb.RequestSigner"
 } external;
 
-isolated function atZone(handle receiver, handle zoneId) returns handle = @java:Method {
-    'class: "java.time.Instant",
-    name: "atZone"
+isolated function sign(handle signer, string verb, string resourceType, string resourceId, string date) 
+                       returns string|Error = @java:Method {
+    'class: "io.ballerinax.cosmosdb.RequestSigner"
 } external;
 
-isolated function ofPattern(handle pattern) returns handle = @java:Method {
-    'class: "java.time.format.DateTimeFormatter",
-    name: "ofPattern"
+isolated function random() returns float = @java:Method {
+    'class: "java.lang.Math"
 } external;
 
-isolated function format(handle receiver, handle dateTimeFormatter) returns handle = @java:Method {
-    'class: "java.time.ZonedDateTime",
-    name: "format"
+isolated function isSampled(float samplingRate) returns boolean = @java:Method {
+    'class: "io.ballerinax.cosmosdb.OperationMetrics"
+} external;
+
+isolated function recordManagementOperation(string operation, string resourceType, string? databaseId,
+        string? containerId, int statusCode, float latency, float requestCharge, int retries, int requestSize,
+        int responseSize) = @java:Method {
+    'class: "io.ballerinax.cosmosdb.OperationMetrics"
 } external;
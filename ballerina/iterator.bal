@@ -40,12 +40,32 @@ public class ResultIterator {
             return result;
         }
     }
+
+    # Closes the stream. The pages which are being fetched are cancelled and the buffered results are dropped.
+    #
+    # + return - `()` once the stream is closed
+    public isolated function close() returns Error? {
+        return closeResult(self);
+    }
 }
 
+# Gets the continuation token of a stream returned by the client, such as the stream of `queryChangeFeed`. The token 
+# points past the last page whose results were all read from the stream, so that a later request can resume there.
+#
+# + results - A stream returned by a `cosmos_db:DataPlaneClient` operation
+# + return - The continuation token, or `()` if no page has been fully read or no results are left
+public isolated function getContinuationToken(stream<record {}, error?> results) returns string? = @java:Method {
+    'class: "io.ballerinax.cosmosdb.RecordIteratorUtils"
+} external;
+
 isolated function nextResult(ResultIterator iterator) returns record {}|Error? = @java:Method {
     'class: "io.ballerinax.cosmosdb.RecordIteratorUtils"
 } external;
 
+isolated function closeResult(ResultIterator iterator) returns Error? = @java:Method {
+    'class: "io.ballerinax.cosmosdb.RecordIteratorUtils"
+} external;
+
 # Represents CosmosResultIterator.
 public class CosmosResultIterator {
     public isolated function nextResult(ResultIterator iterator) returns record {}|Error? = @java:Method {
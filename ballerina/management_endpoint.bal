@@ -25,8 +25,9 @@ import ballerinax/'client.config;
 public isolated client class ManagementClient {
     final http:Client httpClient;
     final string baseUrl;
-    final string primaryKeyOrResourceToken;
+    final handle signer;
     final string host;
+    final RequestSettings requestSettings;
 
     # Gets invoked to initialize the `connector`.
     # The HTTP client initialization requires setting the API credentials. 
@@ -38,8 +39,14 @@ public isolated client class ManagementClient {
     # + return -  Error at failure of client initialization
     public isolated function init(ManagementClientConfig config) returns error? {
         self.baseUrl = config.baseUrl;
-        self.primaryKeyOrResourceToken = config.primaryKeyOrResourceToken;
+        self.signer = createSigner(config.primaryKeyOrResourceToken);
         self.host = getHost(config.baseUrl);
+        MetricsConfig? metrics = config.metrics;
+        self.requestSettings = {
+            signer: self.signer,
+            metricsSamplingRate: metrics is MetricsConfig ? metrics.samplingRate : 0.0,
+            retryConfig: config.transientRetryConfig.cloneReadOnly()
+        };
         http:ClientConfiguration httpClientConfig = check config:constructHTTPClientConfig(config);
         self.httpClient = check new (self.baseUrl, httpClientConfig);
     }
@@ -58,14 +65,15 @@ public isolated client class ManagementClient {
         http:Request request = new;
         string requestPath = prepareUrl([RESOURCE_TYPE_DATABASES]);
         // Setting mandatory headers for the request
-        check setMandatoryHeaders(request, self.host, self.primaryKeyOrResourceToken, http:HTTP_POST, requestPath);
+        check setMandatoryHeaders(request, self.host, self.signer, http:HTTP_POST, requestPath);
         // Setting optional headers
         check setThroughputOrAutopilotHeader(request, throughputOption);
         // Setting a request payload
         json jsonPayload = {id: databaseId};
         request.setJsonPayload(jsonPayload);
         // Get the response
-        http:Response response = check self.httpClient->post(requestPath, request);
+        http:Response response = check sendRequest(self.httpClient, http:HTTP_POST, requestPath, request,
+            self.requestSettings);
         // Return the json payload from the response 
         json jsonResponse = check handleResponse(response);
         // Map the response payload and the headers to a record type
@@ -103,11 +111,12 @@ public isolated client class ManagementClient {
                                          resourceReadOptions = ()) 
                                          returns @tainted Database|Error {
         string requestPath = prepareUrl([RESOURCE_TYPE_DATABASES, databaseId]);
-        map<string> headerMap = check setMandatoryGetHeaders(self.host, self.primaryKeyOrResourceToken, http:HTTP_GET, 
+        map<string> headerMap = check setMandatoryGetHeaders(self.host, self.signer, http:HTTP_GET, 
             requestPath);
         headerMap = setOptionalGetHeaders(headerMap, resourceReadOptions);
 
-        http:Response response = check self.httpClient->get(requestPath, headerMap);
+        http:Response response = check sendRequest(self.httpClient, http:HTTP_GET, requestPath, headerMap,
+            self.requestSettings);
         json jsonResponse = check handleResponse(response);
         return mapJsonToDatabaseType(jsonResponse);
     }
@@ -121,12 +130,10 @@ public isolated client class ManagementClient {
                                           stream<Database, error?>|Error {
         string requestPath = prepareUrl([RESOURCE_TYPE_DATABASES]);
 
-        map<string> headerMap = check setMandatoryGetHeaders(self.host, self.primaryKeyOrResourceToken, http:HTTP_GET,
-            requestPath);
-
-        DatabaseStream objectInstance = check new (self.httpClient, requestPath, headerMap);
-        stream<Database, error?> finalStream = new (objectInstance);
-        return finalStream;
+        ResourcePageStream pages = check new (self.httpClient, {host: self.host, path: requestPath,
+            itemsKey: "Databases"}, self.requestSettings);
+        stream<json, Error?> resources = new (pages);
+        return from json item in resources select mapJsonToDatabaseType(item);
     }
 
     # Deletes a given database.
@@ -141,10 +148,11 @@ public isolated client class ManagementClient {
                                             resourceDeleteOptions = ()) returns @tainted DeleteResponse|Error {
         http:Request request = new;
         string requestPath = prepareUrl([RESOURCE_TYPE_DATABASES, databaseId]);
-        check setMandatoryHeaders(request, self.host, self.primaryKeyOrResourceToken, http:HTTP_DELETE, requestPath);
+        check setMandatoryHeaders(request, self.host, self.signer, http:HTTP_DELETE, requestPath);
         setOptionalHeaders(request, resourceDeleteOptions);
 
-        http:Response response = check self.httpClient->delete(requestPath, request);
+        http:Response response = check sendRequest(self.httpClient, http:HTTP_DELETE, requestPath, request,
+            self.requestSettings);
         check handleHeaderOnlyResponse(response);
         return mapHeadersToResultType(response);
     }
@@ -168,7 +176,7 @@ public isolated client class ManagementClient {
                                              @tainted Container|Error {
         http:Request request = new;
         string requestPath = prepareUrl([RESOURCE_TYPE_DATABASES, databaseId, RESOURCE_TYPE_COLLECTIONS]);
-        check setMandatoryHeaders(request, self.host, self.primaryKeyOrResourceToken, http:HTTP_POST, requestPath);
+        check setMandatoryHeaders(request, self.host, self.signer, http:HTTP_POST, requestPath);
         check setThroughputOrAutopilotHeader(request, throughputOption);
 
         json jsonPayload = {
@@ -184,7 +192,8 @@ public isolated client class ManagementClient {
         }
         request.setJsonPayload(jsonPayload);
 
-        http:Response response = check self.httpClient->post(requestPath, request);
+        http:Response response = check sendRequest(self.httpClient, http:HTTP_POST, requestPath, request,
+            self.requestSettings);
         json jsonResponse = check handleResponse(response);
         return mapJsonToContainerType(jsonResponse);
     }
@@ -231,11 +240,12 @@ public isolated client class ManagementClient {
                                           resourceReadOptions = ())
                                           returns @tainted Container|Error {
         string requestPath = prepareUrl([RESOURCE_TYPE_DATABASES, databaseId, RESOURCE_TYPE_COLLECTIONS, containerId]);
-        map<string> headerMap = check setMandatoryGetHeaders(self.host, self.primaryKeyOrResourceToken, http:HTTP_GET,
+        map<string> headerMap = check setMandatoryGetHeaders(self.host, self.signer, http:HTTP_GET,
             requestPath);
         headerMap = setOptionalGetHeaders(headerMap, resourceReadOptions);
 
-        http:Response response = check self.httpClient->get(requestPath, headerMap);
+        http:Response response = check sendRequest(self.httpClient, http:HTTP_GET, requestPath, headerMap,
+            self.requestSettings);
         json jsonResponse = check handleResponse(response);
         return mapJsonToContainerType(jsonResponse);
     }
@@ -250,12 +260,10 @@ public isolated client class ManagementClient {
                                             stream<Container, error?>|Error {
         string requestPath = prepareUrl([RESOURCE_TYPE_DATABASES, databaseId, RESOURCE_TYPE_COLLECTIONS]);
 
-        map<string> headerMap = check setMandatoryGetHeaders(self.host, self.primaryKeyOrResourceToken, http:HTTP_GET,
-            requestPath);
-
-        ContainerStream objectInstance = check new (self.httpClient, requestPath, headerMap);
-        stream<Container, error?> finalStream = new (objectInstance);
-        return finalStream;
+        ResourcePageStream pages = check new (self.httpClient, {host: self.host, path: requestPath,
+            itemsKey: "DocumentCollections"}, self.requestSettings);
+        stream<json, Error?> resources = new (pages);
+        return from json item in resources select mapJsonToContainerType(item);
     }
 
     # Deletes a container.
@@ -273,10 +281,11 @@ public isolated client class ManagementClient {
                                              @tainted DeleteResponse|Error {
         http:Request request = new;
         string requestPath = prepareUrl([RESOURCE_TYPE_DATABASES, databaseId, RESOURCE_TYPE_COLLECTIONS, containerId]);
-        check setMandatoryHeaders(request, self.host, self.primaryKeyOrResourceToken, http:HTTP_DELETE, requestPath);
+        check setMandatoryHeaders(request, self.host, self.signer, http:HTTP_DELETE, requestPath);
         setOptionalHeaders(request, resourceDeleteOptions);
 
-        http:Response response = check self.httpClient->delete(requestPath, request);
+        http:Response response = check sendRequest(self.httpClient, http:HTTP_DELETE, requestPath, request,
+            self.requestSettings);
         check handleHeaderOnlyResponse(response);
         return mapHeadersToResultType(response);
     }
@@ -293,12 +302,10 @@ public isolated client class ManagementClient {
                                                     stream<PartitionKeyRange, error?>|Error {
         string requestPath = prepareUrl([RESOURCE_TYPE_DATABASES, databaseId, RESOURCE_TYPE_COLLECTIONS, containerId,
             RESOURCE_TYPE_PK_RANGES]);
-        map<string> headerMap = check setMandatoryGetHeaders(self.host, self.primaryKeyOrResourceToken, http:HTTP_GET,
-            requestPath);
-
-        PartitionKeyRangeStream objectInstance = check new (self.httpClient, requestPath, headerMap);
-        stream<PartitionKeyRange, error?> finalStream = new (objectInstance);
-        return finalStream;
+        ResourcePageStream pages = check new (self.httpClient, {host: self.host, path: requestPath,
+            itemsKey: "PartitionKeyRanges"}, self.requestSettings);
+        stream<json, Error?> resources = new (pages);
+        return from json item in resources select mapJsonToPartitionKeyRange(item);
     }
 
     # Creates a new User Defined Function.
@@ -319,7 +326,7 @@ public isolated client class ManagementClient {
         http:Request request = new;
         string requestPath = prepareUrl([RESOURCE_TYPE_DATABASES, databaseId, RESOURCE_TYPE_COLLECTIONS, containerId,
             RESOURCE_TYPE_UDF]);
-        check setMandatoryHeaders(request, self.host, self.primaryKeyOrResourceToken, http:HTTP_POST, requestPath);
+        check setMandatoryHeaders(request, self.host, self.signer, http:HTTP_POST, requestPath);
 
         json payload = {
             id: userDefinedFunctionId,
@@ -327,7 +334,8 @@ public isolated client class ManagementClient {
         };
         request.setJsonPayload(payload);
 
-        http:Response response = check self.httpClient->post(requestPath, request);
+        http:Response response = check sendRequest(self.httpClient, http:HTTP_POST, requestPath, request,
+            self.requestSettings);
         json jsonResponse = check handleResponse(response);
         return mapJsonToUserDefinedFunction(jsonResponse);
     }
@@ -350,7 +358,7 @@ public isolated client class ManagementClient {
         http:Request request = new;
         string requestPath = prepareUrl([RESOURCE_TYPE_DATABASES, databaseId, RESOURCE_TYPE_COLLECTIONS, containerId,
             RESOURCE_TYPE_UDF, userDefinedFunctionId]);
-        check setMandatoryHeaders(request, self.host, self.primaryKeyOrResourceToken, http:HTTP_PUT, requestPath);
+        check setMandatoryHeaders(request, self.host, self.signer, http:HTTP_PUT, requestPath);
 
         json payload = {
             id: userDefinedFunctionId,
@@ -358,7 +366,8 @@ public isolated client class ManagementClient {
         };
         request.setJsonPayload(payload);
 
-        http:Response response = check self.httpClient->put(requestPath, request);
+        http:Response response = check sendRequest(self.httpClient, http:HTTP_PUT, requestPath, request,
+            self.requestSettings);
         json jsonResponse = check handleResponse(response);
         return mapJsonToUserDefinedFunction(jsonResponse);
     }
@@ -380,13 +389,11 @@ public isolated client class ManagementClient {
         string requestPath = prepareUrl([RESOURCE_TYPE_DATABASES, databaseId, RESOURCE_TYPE_COLLECTIONS, containerId,
             RESOURCE_TYPE_UDF]);
 
-        map<string> headerMap = check setMandatoryGetHeaders(self.host, self.primaryKeyOrResourceToken, http:HTTP_GET,
-            requestPath);
-        headerMap = setOptionalGetHeaders(headerMap, resourceReadOptions);
-
-        UserDefiinedFunctionStream objectInstance = check new (self.httpClient, requestPath, headerMap);
-        stream<UserDefinedFunction, error?> finalStream = new (objectInstance);
-        return finalStream;
+        ResourcePageStream pages = check new (self.httpClient, {host: self.host, path: requestPath,
+            itemsKey: "UserDefinedFunctions",
+            headers: setOptionalGetHeaders({}, resourceReadOptions).cloneReadOnly()}, self.requestSettings);
+        stream<json, Error?> resources = new (pages);
+        return from json item in resources select mapJsonToUserDefinedFunction(item);
     }
 
     # Deletes an existing User Defined Function.
@@ -408,10 +415,11 @@ public isolated client class ManagementClient {
         http:Request request = new;
         string requestPath = prepareUrl([RESOURCE_TYPE_DATABASES, databaseId, RESOURCE_TYPE_COLLECTIONS, containerId,
             RESOURCE_TYPE_UDF, userDefinedFunctionid]);
-        check setMandatoryHeaders(request, self.host, self.primaryKeyOrResourceToken, http:HTTP_DELETE, requestPath);
+        check setMandatoryHeaders(request, self.host, self.signer, http:HTTP_DELETE, requestPath);
         setOptionalHeaders(request, resourceDeleteOptions);
 
-        http:Response response = check self.httpClient->delete(requestPath, request);
+        http:Response response = check sendRequest(self.httpClient, http:HTTP_DELETE, requestPath, request,
+            self.requestSettings);
         check handleHeaderOnlyResponse(response);
         return mapHeadersToResultType(response);
     }
@@ -437,7 +445,7 @@ public isolated client class ManagementClient {
         http:Request request = new;
         string requestPath = prepareUrl([RESOURCE_TYPE_DATABASES, databaseId, RESOURCE_TYPE_COLLECTIONS, containerId,
             RESOURCE_TYPE_TRIGGER]);
-        check setMandatoryHeaders(request, self.host, self.primaryKeyOrResourceToken, http:HTTP_POST, requestPath);
+        check setMandatoryHeaders(request, self.host, self.signer, http:HTTP_POST, requestPath);
 
         json payload = {
             id: triggerId,
@@ -447,7 +455,8 @@ public isolated client class ManagementClient {
         };
         request.setJsonPayload(payload);
 
-        http:Response response = check self.httpClient->post(requestPath, request);
+        http:Response response = check sendRequest(self.httpClient, http:HTTP_POST, requestPath, request,
+            self.requestSettings);
         json jsonResponse = check handleResponse(response);
         return mapJsonToTrigger(jsonResponse);
     }
@@ -472,7 +481,7 @@ public isolated client class ManagementClient {
         http:Request request = new;
         string requestPath = prepareUrl([RESOURCE_TYPE_DATABASES, databaseId, RESOURCE_TYPE_COLLECTIONS, containerId,
             RESOURCE_TYPE_TRIGGER, triggerId]);
-        check setMandatoryHeaders(request, self.host, self.primaryKeyOrResourceToken, http:HTTP_PUT, requestPath);
+        check setMandatoryHeaders(request, self.host, self.signer, http:HTTP_PUT, requestPath);
 
         json payload = {
             id: triggerId,
@@ -482,7 +491,8 @@ public isolated client class ManagementClient {
         };
         request.setJsonPayload(payload);
 
-        http:Response response = check self.httpClient->put(requestPath, request);
+        http:Response response = check sendRequest(self.httpClient, http:HTTP_PUT, requestPath, request,
+            self.requestSettings);
         json jsonResponse = check handleResponse(response);
         return mapJsonToTrigger(jsonResponse);
     }
@@ -503,13 +513,11 @@ public isolated client class ManagementClient {
         string requestPath = prepareUrl([RESOURCE_TYPE_DATABASES, databaseId, RESOURCE_TYPE_COLLECTIONS, containerId,
             RESOURCE_TYPE_TRIGGER]);
 
-        map<string> headerMap = check setMandatoryGetHeaders(self.host, self.primaryKeyOrResourceToken, http:HTTP_GET,
-            requestPath);
-        headerMap = setOptionalGetHeaders(headerMap, resourceReadOptions);
-
-        TriggerStream objectInstance = check new (self.httpClient, requestPath, headerMap);
-        stream<Trigger, error?> finalStream = new (objectInstance);
-        return finalStream;
+        ResourcePageStream pages = check new (self.httpClient, {host: self.host, path: requestPath,
+            itemsKey: "Triggers",
+            headers: setOptionalGetHeaders({}, resourceReadOptions).cloneReadOnly()}, self.requestSettings);
+        stream<json, Error?> resources = new (pages);
+        return from json item in resources select mapJsonToTrigger(item);
     }
 
     # Deletes an existing trigger.
@@ -529,10 +537,11 @@ public isolated client class ManagementClient {
         http:Request request = new;
         string requestPath = prepareUrl([RESOURCE_TYPE_DATABASES, databaseId, RESOURCE_TYPE_COLLECTIONS, containerId,
             RESOURCE_TYPE_TRIGGER, triggerId]);
-        check setMandatoryHeaders(request, self.host, self.primaryKeyOrResourceToken, http:HTTP_DELETE, requestPath);
+        check setMandatoryHeaders(request, self.host, self.signer, http:HTTP_DELETE, requestPath);
         setOptionalHeaders(request, resourceDeleteOptions);
 
-        http:Response response = check self.httpClient->delete(requestPath, request);
+        http:Response response = check sendRequest(self.httpClient, http:HTTP_DELETE, requestPath, request,
+            self.requestSettings);
         check handleHeaderOnlyResponse(response);
         return mapHeadersToResultType(response);
     }
@@ -547,12 +556,13 @@ public isolated client class ManagementClient {
                                         @display {label: "User ID"} string userId) returns @tainted User|Error {
         http:Request request = new;
         string requestPath = prepareUrl([RESOURCE_TYPE_DATABASES, databaseId, RESOURCE_TYPE_USER]);
-        check setMandatoryHeaders(request, self.host, self.primaryKeyOrResourceToken, http:HTTP_POST, requestPath);
+        check setMandatoryHeaders(request, self.host, self.signer, http:HTTP_POST, requestPath);
 
         json reqBody = {id: userId};
         request.setJsonPayload(reqBody);
 
-        http:Response response = check self.httpClient->post(requestPath, request);
+        http:Response response = check sendRequest(self.httpClient, http:HTTP_POST, requestPath, request,
+            self.requestSettings);
         return mapJsonToUserType(check handleResponse(response));
     }
 
@@ -569,12 +579,13 @@ public isolated client class ManagementClient {
                                            @tainted User|Error {
         http:Request request = new;
         string requestPath = prepareUrl([RESOURCE_TYPE_DATABASES, databaseId, RESOURCE_TYPE_USER, userId]);
-        check setMandatoryHeaders(request, self.host, self.primaryKeyOrResourceToken, http:HTTP_PUT, requestPath);
+        check setMandatoryHeaders(request, self.host, self.signer, http:HTTP_PUT, requestPath);
 
         json reqBody = {id: newUserId};
         request.setJsonPayload(reqBody);
 
-        http:Response response = check self.httpClient->put(requestPath, request);
+        http:Response response = check sendRequest(self.httpClient, http:HTTP_PUT, requestPath, request,
+            self.requestSettings);
         json jsonResponse = check handleResponse(response);
         return mapJsonToUserType(jsonResponse);
     }
@@ -592,11 +603,12 @@ public isolated client class ManagementClient {
                                      @display {label: "Optional Header Parameters"} ResourceReadOptions?
                                      resourceReadOptions = ()) returns @tainted User|Error {
         string requestPath = prepareUrl([RESOURCE_TYPE_DATABASES, databaseId, RESOURCE_TYPE_USER, userId]);
-        map<string> headerMap = check setMandatoryGetHeaders(self.host, self.primaryKeyOrResourceToken, http:HTTP_GET,
+        map<string> headerMap = check setMandatoryGetHeaders(self.host, self.signer, http:HTTP_GET,
             requestPath);
         headerMap = setOptionalGetHeaders(headerMap, resourceReadOptions);
 
-        http:Response response = check self.httpClient->get(requestPath, headerMap);
+        http:Response response = check sendRequest(self.httpClient, http:HTTP_GET, requestPath, headerMap,
+            self.requestSettings);
         json jsonResponse = check handleResponse(response);
         return mapJsonToUserType(jsonResponse);
     }
@@ -614,13 +626,11 @@ public isolated client class ManagementClient {
                                        stream<User, error?>|Error {
         string requestPath = prepareUrl([RESOURCE_TYPE_DATABASES, databaseId, RESOURCE_TYPE_USER]);
 
-        map<string> headerMap = check setMandatoryGetHeaders(self.host, self.primaryKeyOrResourceToken, http:HTTP_GET,
-            requestPath);
-        headerMap = setOptionalGetHeaders(headerMap, resourceReadOptions);
-
-        UserStream objectInstance = check new (self.httpClient, requestPath, headerMap);
-        stream<User, error?> finalStream = new (objectInstance);
-        return finalStream;
+        ResourcePageStream pages = check new (self.httpClient, {host: self.host, path: requestPath,
+            itemsKey: "Users",
+            headers: setOptionalGetHeaders({}, resourceReadOptions).cloneReadOnly()}, self.requestSettings);
+        stream<json, Error?> resources = new (pages);
+        return from json item in resources select mapJsonToUserType(item);
     }
 
     # Deletes a user.
@@ -637,10 +647,11 @@ public isolated client class ManagementClient {
                                         resourceDeleteOptions = ()) returns @tainted DeleteResponse|Error {
         http:Request request = new;
         string requestPath = prepareUrl([RESOURCE_TYPE_DATABASES, databaseId, RESOURCE_TYPE_USER, userId]);
-        check setMandatoryHeaders(request, self.host, self.primaryKeyOrResourceToken, http:HTTP_DELETE, requestPath);
+        check setMandatoryHeaders(request, self.host, self.signer, http:HTTP_DELETE, requestPath);
         setOptionalHeaders(request, resourceDeleteOptions);
 
-        http:Response response = check self.httpClient->delete(requestPath, request);
+        http:Response response = check sendRequest(self.httpClient, http:HTTP_DELETE, requestPath, request,
+            self.requestSettings);
         check handleHeaderOnlyResponse(response);
         return mapHeadersToResultType(response);
     }
@@ -665,7 +676,7 @@ public isolated client class ManagementClient {
         http:Request request = new;
         string requestPath = prepareUrl([RESOURCE_TYPE_DATABASES, databaseId, RESOURCE_TYPE_USER, userId,
             RESOURCE_TYPE_PERMISSION]);
-        check setMandatoryHeaders(request, self.host, self.primaryKeyOrResourceToken, http:HTTP_POST, requestPath);
+        check setMandatoryHeaders(request, self.host, self.signer, http:HTTP_POST, requestPath);
         if (validityPeriodInSeconds is int) {
             check setExpiryHeader(request, validityPeriodInSeconds);
         }
@@ -677,7 +688,8 @@ public isolated client class ManagementClient {
         };
         request.setJsonPayload(jsonPayload);
 
-        http:Response response = check self.httpClient->post(requestPath, request);
+        http:Response response = check sendRequest(self.httpClient, http:HTTP_POST, requestPath, request,
+            self.requestSettings);
         json jsonResponse = check handleResponse(response);
         return mapJsonToPermissionType(jsonResponse);
     }
@@ -702,7 +714,7 @@ public isolated client class ManagementClient {
         http:Request request = new;
         string requestPath = prepareUrl([RESOURCE_TYPE_DATABASES, databaseId, RESOURCE_TYPE_USER, userId,
             RESOURCE_TYPE_PERMISSION, permissionId]);
-        check setMandatoryHeaders(request, self.host, self.primaryKeyOrResourceToken, http:HTTP_PUT, requestPath);
+        check setMandatoryHeaders(request, self.host, self.signer, http:HTTP_PUT, requestPath);
         if (validityPeriodInSeconds is int) {
             check setExpiryHeader(request, validityPeriodInSeconds);
         }
@@ -714,7 +726,8 @@ public isolated client class ManagementClient {
         };
         request.setJsonPayload(jsonPayload);
 
-        http:Response response = check self.httpClient->put(requestPath, request);
+        http:Response response = check sendRequest(self.httpClient, http:HTTP_PUT, requestPath, request,
+            self.requestSettings);
         json jsonResponse = check handleResponse(response);
         return mapJsonToPermissionType(jsonResponse);
     }
@@ -736,11 +749,12 @@ public isolated client class ManagementClient {
         string requestPath = prepareUrl([RESOURCE_TYPE_DATABASES, databaseId, RESOURCE_TYPE_USER, userId,
             RESOURCE_TYPE_PERMISSION, permissionId]);
 
-        map<string> headerMap = check setMandatoryGetHeaders(self.host, self.primaryKeyOrResourceToken, http:HTTP_GET,
+        map<string> headerMap = check setMandatoryGetHeaders(self.host, self.signer, http:HTTP_GET,
             requestPath);
         headerMap = setOptionalGetHeaders(headerMap, resourceReadOptions);
 
-        http:Response response = check self.httpClient->get(requestPath, headerMap);
+        http:Response response = check sendRequest(self.httpClient, http:HTTP_GET, requestPath, headerMap,
+            self.requestSettings);
         json jsonResponse = check handleResponse(response);
         return mapJsonToPermissionType(jsonResponse);
     }
@@ -762,13 +776,11 @@ public isolated client class ManagementClient {
         string requestPath = prepareUrl([RESOURCE_TYPE_DATABASES, databaseId, RESOURCE_TYPE_USER, userId,
             RESOURCE_TYPE_PERMISSION]);
 
-        map<string> headerMap = check setMandatoryGetHeaders(self.host, self.primaryKeyOrResourceToken, http:HTTP_GET,
-            requestPath);
-        headerMap = setOptionalGetHeaders(headerMap, resourceReadOptions);
-
-        PermissionStream objectInstance = check new (self.httpClient, requestPath, headerMap);
-        stream<Permission, error?> finalStream = new (objectInstance);
-        return finalStream;
+        ResourcePageStream pages = check new (self.httpClient, {host: self.host, path: requestPath,
+            itemsKey: "Permissions",
+            headers: setOptionalGetHeaders({}, resourceReadOptions).cloneReadOnly()}, self.requestSettings);
+        stream<json, Error?> resources = new (pages);
+        return from json item in resources select mapJsonToPermissionType(item);
     }
 
     # Deletes a permission belongs to a user.
@@ -788,10 +800,11 @@ public isolated client class ManagementClient {
         http:Request request = new;
         string requestPath = prepareUrl([RESOURCE_TYPE_DATABASES, databaseId, RESOURCE_TYPE_USER, userId,
             RESOURCE_TYPE_PERMISSION, permissionId]);
-        check setMandatoryHeaders(request, self.host, self.primaryKeyOrResourceToken, http:HTTP_DELETE, requestPath);
+        check setMandatoryHeaders(request, self.host, self.signer, http:HTTP_DELETE, requestPath);
         setOptionalHeaders(request, resourceDeleteOptions);
 
-        http:Response response = check self.httpClient->delete(requestPath, request);
+        http:Response response = check sendRequest(self.httpClient, http:HTTP_DELETE, requestPath, request,
+            self.requestSettings);
         check handleHeaderOnlyResponse(response);
         return mapHeadersToResultType(response);
     }
@@ -804,7 +817,7 @@ public isolated client class ManagementClient {
     remote isolated function replaceOffer(@display {label: "Offer ID"} Offer offer) returns @tainted Offer|Error {
         http:Request request = new;
         string requestPath = prepareUrl([RESOURCE_TYPE_OFFERS, offer.id]);
-        check setMandatoryHeaders(request, self.host, self.primaryKeyOrResourceToken, http:HTTP_PUT, requestPath);
+        check setMandatoryHeaders(request, self.host, self.signer, http:HTTP_PUT, requestPath);
 
         json jsonPaylod = {
             offerVersion: offer.offerVersion,
@@ -817,7 +830,8 @@ public isolated client class ManagementClient {
         };
         request.setJsonPayload(jsonPaylod);
 
-        http:Response response = check self.httpClient->put(requestPath, request);
+        http:Response response = check sendRequest(self.httpClient, http:HTTP_PUT, requestPath, request,
+            self.requestSettings);
         json jsonResponse = check handleResponse(response);
         return mapJsonToOfferType(jsonResponse);
     }
@@ -833,11 +847,12 @@ public isolated client class ManagementClient {
                                       @display {label: "Optional Header Parameters"} ResourceReadOptions?
                                       resourceReadOptions = ()) returns @tainted Offer|Error {
         string requestPath = prepareUrl([RESOURCE_TYPE_OFFERS, offerId]);
-        map<string> headerMap = check setMandatoryGetHeaders(self.host, self.primaryKeyOrResourceToken, http:HTTP_GET,
+        map<string> headerMap = check setMandatoryGetHeaders(self.host, self.signer, http:HTTP_GET,
             requestPath);
         headerMap = setOptionalGetHeaders(headerMap, resourceReadOptions);
 
-        http:Response response = check self.httpClient->get(requestPath, headerMap);
+        http:Response response = check sendRequest(self.httpClient, http:HTTP_GET, requestPath, headerMap,
+            self.requestSettings);
         json jsonResponse = check handleResponse(response);
         return mapJsonToOfferType(jsonResponse);
     }
@@ -853,13 +868,11 @@ public isolated client class ManagementClient {
                                         stream<Offer, error?>|Error {
         string requestPath = prepareUrl([RESOURCE_TYPE_OFFERS]);
 
-        map<string> headerMap = check setMandatoryGetHeaders(self.host, self.primaryKeyOrResourceToken, http:HTTP_GET,
-            requestPath);
-        headerMap = setOptionalGetHeaders(headerMap, resourceReadOptions);
-
-        OfferStream objectInstance = check new (self.httpClient, requestPath, headerMap);
-        stream<Offer, error?> finalStream = new (objectInstance);
-        return finalStream;
+        ResourcePageStream pages = check new (self.httpClient, {host: self.host, path: requestPath,
+            itemsKey: "Offers",
+            headers: setOptionalGetHeaders({}, resourceReadOptions).cloneReadOnly()}, self.requestSettings);
+        stream<json, Error?> resources = new (pages);
+        return from json item in resources select mapJsonToOfferType(item);
     }
 
     # Performs queries on offer resources.
@@ -874,16 +887,11 @@ public isolated client class ManagementClient {
                                         resourceQueryOptions = ()) returns
                                         @tainted @display {label: "Stream of Query Results"}
                                         stream<Offer, error?>|Error {
-        http:Request request = new;
         string requestPath = prepareUrl([RESOURCE_TYPE_OFFERS]);
-        check setMandatoryHeaders(request, self.host, self.primaryKeyOrResourceToken, http:HTTP_POST, requestPath);
-        setOptionalHeaders(request, resourceQueryOptions);
-
-        request.setJsonPayload({query: sqlQuery});
-        check setHeadersForQuery(request);
-
-        OfferQueryResultStream objectInstance = check new (self.httpClient, requestPath, request);
-        stream<Offer, error?> finalStream = new (objectInstance);
-        return finalStream;
+        ResourcePageStream pages = check new (self.httpClient, {host: self.host, path: requestPath, itemsKey: "Offers",
+            headers: setOptionalGetHeaders({}, resourceQueryOptions).cloneReadOnly(), query: sqlQuery},
+            self.requestSettings);
+        stream<json, Error?> resources = new (pages);
+        return from json item in resources select mapJsonToOfferType(item);
     }
 }
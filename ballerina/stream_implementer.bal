@@ -16,489 +16,109 @@
 
 import ballerina/http;
 
-// This stream implementer works for GET requests
-class DatabaseStream {
-    private Database[] currentEntries = [];
-    private string continuationToken;
-    int index = 0;
+// This stream implementer pages through the resources listed or queried by the management client. The next page is
+// fetched in the background while the current page is consumed, so at most one page is buffered ahead.
+class ResourcePageStream {
     private final http:Client httpClient;
-    private final string path;
-    private map<string> headerMap;
-
-    isolated function  init(http:Client httpClient, string path, map<string> headerMap) returns @tainted error? {
-        self.httpClient = httpClient;
-        self.path = path;
-        self.continuationToken = EMPTY_STRING;
-        self.headerMap = headerMap;
-        self.currentEntries = check self.fetchDatabases();
-    }
-
-    public isolated function next() returns @tainted record {| Database value; |}|error? {
-        if(self.index < self.currentEntries.length()) {
-            record {| Database value; |} singleRecord = {value: self.currentEntries[self.index]};
-            self.index += 1;
-            return singleRecord;
-        }
-        // This code block is for retrieving the next batch of records when the initial batch is finished.
-        if (self.continuationToken != EMPTY_STRING) {
-            self.index = 0;
-            self.currentEntries = check self.fetchDatabases();
-            record {| Database value; |} singleRecord = {value: self.currentEntries[self.index]};
-            self.index += 1;
-            return singleRecord;
-        }
-        return;
-    }
-
-    isolated function fetchDatabases() returns @tainted Database[]|Error {
-        if (self.continuationToken != EMPTY_STRING) {
-            self.headerMap[CONTINUATION_HEADER] = self.continuationToken;
-        }
-        http:Response response = check self.httpClient->get(self.path, self.headerMap);
-        self.continuationToken = let var header = response.getHeader(CONTINUATION_HEADER) in header is string ? header :
-            EMPTY_STRING;
-        json payload = check handleResponse(response);
-        if (payload.Databases is json) {
-            json[] array = let var load = payload.Databases in load is json ? <json[]>load : [];
-            return convertToDatabaseArray(array);
-
-        } else {
-            return error PayloadValidationError(INVALID_RESPONSE_PAYLOAD_ERROR);
-        }
-    }
-}
-
-class ContainerStream {
-    private Container[] currentEntries = [];
-    private string continuationToken;
-    int index = 0;
-    private final http:Client httpClient;
-    private final string path;
-    private map<string> headerMap;
-
-    isolated function  init(http:Client httpClient, string path, map<string> headerMap) returns @tainted error? {
-        self.httpClient = httpClient;
-        self.path = path;
-        self.continuationToken = EMPTY_STRING;
-        self.headerMap = headerMap;
-        self.currentEntries = check self.fetchContainers();
-    }
-
-    public isolated function next() returns @tainted record {| Container value; |}|error? {
-        if(self.index < self.currentEntries.length()) {
-            record {| Container value; |} singleRecord = {value: self.currentEntries[self.index]};
-            self.index += 1;
-            return singleRecord;
-        }
-        // This code block is for retrieving the next batch of records when the initial batch is finished.
-        if (self.continuationToken != EMPTY_STRING) {
-            self.index = 0;
-            self.currentEntries = check self.fetchContainers();
-            record {| Container value; |} singleRecord = {value: self.currentEntries[self.index]};
-            self.index += 1;
-            return singleRecord;
-        }
-        return;
-    }
-
-    isolated function fetchContainers() returns @tainted Container[]|Error {
-        if (self.continuationToken != EMPTY_STRING) {
-            self.headerMap[CONTINUATION_HEADER] = self.continuationToken;
-        }
-        http:Response response = check self.httpClient->get(self.path, self.headerMap);
-        self.continuationToken = let var header = response.getHeader(CONTINUATION_HEADER) in header is string ? header :
-            EMPTY_STRING;
-        json payload = check handleResponse(response);
-
-        if (payload.DocumentCollections is json) {
-            json[] array = let var load = payload.DocumentCollections in load is json ? <json[]>load : [];
-            return convertToContainerArray(array);
-        } else {
-            return error PayloadValidationError(INVALID_RESPONSE_PAYLOAD_ERROR);
-        }
-    }
-}
-
-
-class UserDefiinedFunctionStream {
-    private UserDefinedFunction[] currentEntries = [];
-    private string continuationToken;
-    int index = 0;
-    private final http:Client httpClient;
-    private final string path;
-    private map<string> headerMap;
-
-    isolated function  init(http:Client httpClient, string path, map<string> headerMap) returns @tainted error? {
-        self.httpClient = httpClient;
-        self.path = path;
-        self.continuationToken = EMPTY_STRING;
-        self.headerMap = headerMap;
-        self.currentEntries = check self.fetchUserDefinedFunctions();
-    }
-
-    public isolated function next() returns @tainted record {| UserDefinedFunction value; |}|error? {
-        if(self.index < self.currentEntries.length()) {
-            record {| UserDefinedFunction value; |} singleRecord = {value: self.currentEntries[self.index]};
-            self.index += 1;
-            return singleRecord;
-        }
-        // This code block is for retrieving the next batch of records when the initial batch is finished.
-        if (self.continuationToken != EMPTY_STRING) {
-            self.index = 0;
-            self.currentEntries = check self.fetchUserDefinedFunctions();
-            record {| UserDefinedFunction value; |} singleRecord = {value: self.currentEntries[self.index]};
-            self.index += 1;
-            return singleRecord;
-        }
-        return;
-    }
-
-    isolated function fetchUserDefinedFunctions() returns @tainted UserDefinedFunction[]|Error {
-        if (self.continuationToken != EMPTY_STRING) {
-            self.headerMap[CONTINUATION_HEADER] = self.continuationToken;
-        }
-        http:Response response = check self.httpClient->get(self.path, self.headerMap);
-        self.continuationToken = let var header = response.getHeader(CONTINUATION_HEADER) in header is string ? header :
-            EMPTY_STRING;
-        json payload = check handleResponse(response);
-
-        if (payload.UserDefinedFunctions is json) {
-            json[] array = let var load = payload.UserDefinedFunctions in load is json ? <json[]>load : [];
-            return convertsToUserDefinedFunctionArray(array);
-        } else {
-            return error PayloadValidationError(INVALID_RESPONSE_PAYLOAD_ERROR);
-        }
-    }
-}
-
-class TriggerStream {
-    private Trigger[] currentEntries = [];
-    private string continuationToken;
-    int index = 0;
-    private final http:Client httpClient;
-    private final string path;
-    private map<string> headerMap;
-
-    isolated function  init(http:Client httpClient, string path, map<string> headerMap) returns @tainted error? {
-        self.httpClient = httpClient;
-        self.path = path;
-        self.continuationToken = EMPTY_STRING;
-        self.headerMap = headerMap;
-        self.currentEntries = check self.fetchTriggers();
-    }
-
-    public isolated function next() returns @tainted record {| Trigger value; |}|error? {
-        if(self.index < self.currentEntries.length()) {
-            record {| Trigger value; |} singleRecord = {value: self.currentEntries[self.index]};
-            self.index += 1;
-            return singleRecord;
-        }
-        // This code block is for retrieving the next batch of records when the initial batch is finished.
-        if (self.continuationToken != EMPTY_STRING) {
-            self.index = 0;
-            self.currentEntries = check self.fetchTriggers();
-            record {| Trigger value; |} singleRecord = {value: self.currentEntries[self.index]};
-            self.index += 1;
-            return singleRecord;
-        }
-        return;
-    }
-
-    isolated function fetchTriggers() returns @tainted Trigger[]|Error {
-        if (self.continuationToken != EMPTY_STRING) {
-            self.headerMap[CONTINUATION_HEADER] = self.continuationToken;
-        }
-        http:Response response = check self.httpClient->get(self.path, self.headerMap);
-        self.continuationToken = let var header = response.getHeader(CONTINUATION_HEADER) in header is string ? header :
-            EMPTY_STRING;
-        json payload = check handleResponse(response);
-
-        if (payload.Triggers is json) {
-            json[] array = let var load = payload.Triggers in load is json ? <json[]>load : [];
-            return convertToTriggerArray(array);
-        } else {
-            return error PayloadValidationError(INVALID_RESPONSE_PAYLOAD_ERROR);
-        }
-    }
-}
-
-class UserStream {
-    private User[] currentEntries = [];
-    private string continuationToken;
-    int index = 0;
-    private final http:Client httpClient;
-    private final string path;
-    private map<string> headerMap;
-
-    isolated function  init(http:Client httpClient, string path, map<string> headerMap) returns @tainted error? {
-        self.httpClient = httpClient;
-        self.path = path;
-        self.continuationToken = EMPTY_STRING;
-        self.headerMap = headerMap;
-        self.currentEntries = check self.fetchUsers();
-    }
-
-    public isolated function next() returns @tainted record {| User value; |}|error? {
-        if(self.index < self.currentEntries.length()) {
-            record {| User value; |} singleRecord = {value: self.currentEntries[self.index]};
-            self.index += 1;
-            return singleRecord;
-        }
-        // This code block is for retrieving the next batch of records when the initial batch is finished.
-        if (self.continuationToken != EMPTY_STRING) {
-            self.index = 0;
-            self.currentEntries = check self.fetchUsers();
-            record {| User value; |} singleRecord = {value: self.currentEntries[self.index]};
-            self.index += 1;
-            return singleRecord;
-        }
-        return;
-    }
-
-    isolated function fetchUsers() returns @tainted User[]|Error {
-        if (self.continuationToken != EMPTY_STRING) {
-            self.headerMap[CONTINUATION_HEADER] = self.continuationToken;
-        }
-        http:Response response = check self.httpClient->get(self.path, self.headerMap);
-        self.continuationToken = let var header = response.getHeader(CONTINUATION_HEADER) in header is string ? header :
-            EMPTY_STRING;
-        json payload = check handleResponse(response);
-
-        if (payload.Users is json) {
-            json[] array = let var load = payload.Users in load is json ? <json[]>load : [];
-            return convertToUserArray(array);
-        } else {
-            return error PayloadValidationError(INVALID_RESPONSE_PAYLOAD_ERROR);
-        }
-    }
-}
-
-
-class PermissionStream {
-    private Permission[] currentEntries = [];
-    private string continuationToken;
-    int index = 0;
-    private final http:Client httpClient;
-    private final string path;
-    private map<string> headerMap;
-
-    isolated function  init(http:Client httpClient, string path, map<string> headerMap) returns @tainted error? {
+    private final PageRequest pageRequest;
+    private final RequestSettings requestSettings;
+    private json[] currentEntries;
+    private int index = 0;
+    private future<ResourcePage|Error>? nextPage = ();
+    private boolean closed = false;
+
+    isolated function init(http:Client httpClient, PageRequest pageRequest, RequestSettings requestSettings)
+                           returns Error? {
         self.httpClient = httpClient;
-        self.path = path;
-        self.continuationToken = EMPTY_STRING;
-        self.headerMap = headerMap;
-        self.currentEntries = check self.fetchPermission();
-    }
-
-    public isolated function next() returns @tainted record {| Permission value; |}|error? {
-        if(self.index < self.currentEntries.length()) {
-            record {| Permission value; |} singleRecord = {value: self.currentEntries[self.index]};
-            self.index += 1;
-            return singleRecord;
-        }
-        // This code block is for retrieving the next batch of records when the initial batch is finished.
-        if (self.continuationToken != EMPTY_STRING) {
-            self.index = 0;
-            self.currentEntries = check self.fetchPermission();
-            record {| Permission value; |} singleRecord = {value: self.currentEntries[self.index]};
-            self.index += 1;
-            return singleRecord;
-        }
-        return;
-    }
-
-    isolated function fetchPermission() returns @tainted Permission[]|Error {
-        if (self.continuationToken != EMPTY_STRING) {
-            self.headerMap[CONTINUATION_HEADER] = self.continuationToken;
-        }
-        http:Response response = check self.httpClient->get(self.path, self.headerMap);
-        self.continuationToken = let var header = response.getHeader(CONTINUATION_HEADER) in header is string ? header :
-            EMPTY_STRING;
-        json payload = check handleResponse(response);
-
-        if (payload.Permissions is json) {
-            json[] array = let var load = payload.Permissions in load is json ? <json[]>load : [];
-            return convertToPermissionArray(array);
-        } else {
-            return error PayloadValidationError(INVALID_RESPONSE_PAYLOAD_ERROR);
-        }
-    }
-}
-
-class OfferStream {
-    private Offer[] currentEntries = [];
-    private string continuationToken;
-    int index = 0;
-    private final http:Client httpClient;
-    private final string path;
-    private map<string> headerMap;
-
-    isolated function  init(http:Client httpClient, string path, map<string> headerMap) returns @tainted error? {
-        self.httpClient = httpClient;
-        self.path = path;
-        self.continuationToken = EMPTY_STRING;
-        self.headerMap = headerMap;
-        self.currentEntries = check self.fetchOffers();
-    }
-
-    public isolated function next() returns @tainted record {| Offer value; |}|error? {
-        if(self.index < self.currentEntries.length()) {
-            record {| Offer value; |} singleRecord = {value: self.currentEntries[self.index]};
-            self.index += 1;
-            return singleRecord;
-        }
-        // This code block is for retrieving the next batch of records when the initial batch is finished.
-        if (self.continuationToken != EMPTY_STRING) {
-            self.index = 0;
-            self.currentEntries = check self.fetchOffers();
-            record {| Offer value; |} singleRecord = {value: self.currentEntries[self.index]};
-            self.index += 1;
-            return singleRecord;
-        }
-        return;
-    }
-
-    isolated function fetchOffers() returns @tainted Offer[]|Error {
-        if (self.continuationToken != EMPTY_STRING) {
-            self.headerMap[CONTINUATION_HEADER] = self.continuationToken;
-        }
-        http:Response response = check self.httpClient->get(self.path, self.headerMap);
-        self.continuationToken = let var header = response.getHeader(CONTINUATION_HEADER) in header is string ? header :
-            EMPTY_STRING;
-        json payload = check handleResponse(response);
-        if (payload.Offers is json) {
-            json[] array = let var load = payload.Offers in load is json ? <json[]>load : [];
-            return convertToOfferArray(array);
-        } else {
-            return error PayloadValidationError(INVALID_RESPONSE_PAYLOAD_ERROR);
-        }
-    }
-}
-
-class PartitionKeyRangeStream {
-    private PartitionKeyRange[] currentEntries = [];
-    private string continuationToken;
-    int index = 0;
-    private final http:Client httpClient;
-    private final string path;
-    private map<string> headerMap;
-
-    isolated function  init(http:Client httpClient, string path, map<string> headerMap) returns @tainted error? {
-        self.httpClient = httpClient;
-        self.path = path;
-        self.continuationToken = EMPTY_STRING;
-        self.headerMap = headerMap;
-        self.currentEntries = check self.fetchPKRanges();
-    }
-
-    public isolated function next() returns @tainted record {| PartitionKeyRange value; |}|error? {
-        if(self.index < self.currentEntries.length()) {
-            record {| PartitionKeyRange value; |} singleRecord = {value: self.currentEntries[self.index]};
-            self.index += 1;
-            return singleRecord;
-        }
-        // This code block is for retrieving the next batch of records when the initial batch is finished.
-        if (self.continuationToken != EMPTY_STRING) {
+        self.pageRequest = pageRequest;
+        self.requestSettings = requestSettings;
+        ResourcePage page = check fetchResourcePage(httpClient, pageRequest, requestSettings, EMPTY_STRING);
+        self.currentEntries = page.items;
+        self.prefetch(page.continuationToken);
+    }
+
+    public isolated function next() returns record {| json value; |}|Error? {
+        while !self.closed {
+            if self.index < self.currentEntries.length() {
+                record {| json value; |} singleRecord = {value: self.currentEntries[self.index]};
+                self.index += 1;
+                return singleRecord;
+            }
+            future<ResourcePage|Error>? nextPage = self.nextPage;
+            if nextPage is () {
+                return;
+            }
+            self.nextPage = ();
+            // A page can be empty while the listing still has more resources, hence keep paging.
+            ResourcePage page = check wait nextPage;
+            self.currentEntries = page.items;
             self.index = 0;
-            self.currentEntries = check self.fetchPKRanges();
-            record {| PartitionKeyRange value; |} singleRecord = {value: self.currentEntries[self.index]};
-            self.index += 1;
-            return singleRecord;
+            self.prefetch(page.continuationToken);
         }
         return;
     }
 
-    isolated function fetchPKRanges() returns @tainted PartitionKeyRange[]|Error {
-        if (self.continuationToken != EMPTY_STRING) {
-            self.headerMap[CONTINUATION_HEADER] = self.continuationToken;
-        }
-        http:Response response = check self.httpClient->get(self.path, self.headerMap);
-        self.continuationToken = let var header = response.getHeader(CONTINUATION_HEADER) in header is string ? header :
-            EMPTY_STRING;
-        json payload = check handleResponse(response);
-        if (payload.PartitionKeyRanges is json) {
-            json[] array = let var load = payload.PartitionKeyRanges in load is json ? <json[]>load : [];
-            return convertToPartitionKeyRangeArray(array);
-        } else {
-            return error PayloadValidationError(INVALID_RESPONSE_PAYLOAD_ERROR);
+    public isolated function close() returns Error? {
+        self.closed = true;
+        self.currentEntries = [];
+        future<ResourcePage|Error>? nextPage = self.nextPage;
+        if nextPage is future<ResourcePage|Error> {
+            nextPage.cancel();
+            self.nextPage = ();
         }
     }
-}
 
-class OfferQueryResultStream {
-    private Offer[] currentEntries = [];
-    private string continuationToken;
-    int index = 0;
-    private final http:Client httpClient;
-    private final string path;
-    http:Request request;
-
-    isolated function  init(http:Client httpClient, string path, http:Request request) returns @tainted error? {
-        self.httpClient = httpClient;
-        self.path = path;
-        self.continuationToken = EMPTY_STRING;
-        self.request = request;
-        self.currentEntries = check self.fetchOfferQueryResults();
-    }
-
-    public isolated function next() returns @tainted record {| Offer value; |}|error? {
-        if(self.index < self.currentEntries.length()) {
-            record {| Offer value; |} singleRecord = {value: self.currentEntries[self.index]};
-            self.index += 1;
-            return singleRecord;
+    isolated function prefetch(string continuationToken) {
+        if continuationToken != EMPTY_STRING {
+            self.nextPage = start fetchResourcePage(self.httpClient, self.pageRequest, self.requestSettings,
+                continuationToken);
         }
-        // This code block is for retrieving the next batch of records when the initial batch is finished.
-        if (self.continuationToken != EMPTY_STRING) {
-            self.index = 0;
-            self.currentEntries = check self.fetchOfferQueryResults();
-            record {| Offer value; |} singleRecord = {value: self.currentEntries[self.index]};
-            self.index += 1;
-            return singleRecord;
-        }
-        return;
     }
-
-    isolated function fetchOfferQueryResults() returns @tainted Offer[]|Error {
-        if (self.continuationToken != EMPTY_STRING) {
-            self.request.setHeader(CONTINUATION_HEADER, self.continuationToken);
-        }
-        http:Response response = check self.httpClient->post(self.path, self.request);
-        self.continuationToken = let var header = response.getHeader(CONTINUATION_HEADER) in header is string ? header :
-            EMPTY_STRING;
-        json payload = check handleResponse(response);
-        if (payload.Offers is json) {
-            json[] array = let var load = payload.Offers in load is json ? <json[]>load : [];
-            return convertToOfferArray(array);
-        } else {
-            return error PayloadValidationError(INVALID_RESPONSE_PAYLOAD_ERROR);
-        }
-    }
-}
-
-# Convert JSON array of database information in to an array of type `Database`.
-#
-# + sourceDatabaseArrayJsonObject - JSON object which contain the array of database information
-# + return - An array of type `Database`
-isolated function convertToDatabaseArray(json[] sourceDatabaseArrayJsonObject) returns Database[] {
-    Database[] databases = [];
-    foreach json databaseObject in sourceDatabaseArrayJsonObject {
-        Database database = mapJsonToDatabaseType(databaseObject);
-        databases.push(database);
-    }
-    return databases;
 }
 
-# Convert JSON array of container information in to an array of type `Container`.
+# Fetch a page of resources. Each page request is signed anew, so that a long listing does not outlive the date it
+# was signed with.
 #
-# + sourceContainerArrayJsonObject - JSON object which contain the array of container information
-# + return - An array of type `Container`
-isolated function convertToContainerArray(json[] sourceContainerArrayJsonObject) returns Container[] {
-    Container[] containers = [];
-    foreach json jsonCollection in sourceContainerArrayJsonObject {
-        Container container = mapJsonToContainerType(jsonCollection);
-        containers.push(container);
-    }
-    return containers;
+# + httpClient - The HTTP client of the management client
+# + pageRequest - The request of the pages
+# + settings - Settings of the requests of the management client
+# + continuationToken - Continuation token of the page, or an empty string for the first page
+# + return - If successful, returns the page. Else returns `Error`.
+isolated function fetchResourcePage(http:Client httpClient, PageRequest pageRequest, RequestSettings settings,
+                                    string continuationToken) returns ResourcePage|Error {
+    http:Response response;
+    string? query = pageRequest?.query;
+    if query is string {
+        http:Request request = new;
+        check setMandatoryHeaders(request, pageRequest.host, settings.signer, http:HTTP_POST, pageRequest.path);
+        foreach [string, string] [header, value] in pageRequest.headers.entries() {
+            request.setHeader(header, value);
+        }
+        request.setJsonPayload({query});
+        check setHeadersForQuery(request);
+        if continuationToken != EMPTY_STRING {
+            request.setHeader(CONTINUATION_HEADER, continuationToken);
+        }
+        response = check sendRequest(httpClient, http:HTTP_POST, pageRequest.path, request, settings);
+    } else {
+        map<string> headerMap = check setMandatoryGetHeaders(pageRequest.host, settings.signer, http:HTTP_GET,
+            pageRequest.path);
+        foreach [string, string] [header, value] in pageRequest.headers.entries() {
+            headerMap[header] = value;
+        }
+        if continuationToken != EMPTY_STRING {
+            headerMap[CONTINUATION_HEADER] = continuationToken;
+        }
+        response = check sendRequest(httpClient, http:HTTP_GET, pageRequest.path, headerMap, settings);
+    }
+    string nextToken = let var header = response.getHeader(CONTINUATION_HEADER) in header is string ? header :
+        EMPTY_STRING;
+    json payload = check handleResponse(response);
+    json items = payload is map<json> ? payload[pageRequest.itemsKey] : ();
+    if items is json[] {
+        return {items, continuationToken: nextToken};
+    }
+    return error PayloadValidationError(INVALID_RESPONSE_PAYLOAD_ERROR);
 }
 
 # Convert JSON array of document information in to an array of type `Document`.
@@ -528,85 +148,71 @@ isolated function convertToStoredProcedureArray(json[] sourceStoredProcedureArra
     return storedProcedures;
 }
 
-# Convert JSON array of user defined function information in to an array of type `UserDefinedFunction`.
-#
-# + sourceUdfArrayJsonObject - JSON object which contain the array of user defined function information
-# + return - An array of type `UserDefinedFunction`
-isolated function convertsToUserDefinedFunctionArray(json[] sourceUdfArrayJsonObject) returns UserDefinedFunction[] {
-    UserDefinedFunction[] userDefinedFunctions = [];
-    foreach json userDefinedFunctionObject in sourceUdfArrayJsonObject {
-        UserDefinedFunction userDefinedFunction = mapJsonToUserDefinedFunction(userDefinedFunctionObject);
-        userDefinedFunctions.push(userDefinedFunction);
-    }
-    return userDefinedFunctions;
-}
-
-# Convert JSON array of trigger information in to an array of type `Trigger`.
-#
-# + sourceTriggerArrayJsonObject - JSON object which contain the array of trigger information
-# + return - An array of type `Trigger`
-isolated function convertToTriggerArray(json[] sourceTriggerArrayJsonObject) returns Trigger[] {
-    Trigger[] triggers = [];
-    foreach json triggerObject in sourceTriggerArrayJsonObject {
-        Trigger trigger = mapJsonToTrigger(triggerObject);
-        triggers.push(trigger);
-    }
-    return triggers;
-}
-
-# Convert JSON array of user information in to an array of type `User`.
-#
-# + sourceUserArrayJsonObject - JSON object which contain the array of user information
-# + return - An array of type `User`
-isolated function convertToUserArray(json[] sourceUserArrayJsonObject) returns User[] {
-    User[] users = [];
-    foreach json userObject in sourceUserArrayJsonObject {
-        User user = mapJsonToUserType(userObject);
-        users.push(user);
-    }
-    return users;
-}
-
-# Convert JSON array of permission information in to an array of type `Permission`.
-#
-# + sourcePermissionArrayJsonObject - JSON object which contain the array of permission information
-# + return - An array of type `Permission`
-isolated function convertToPermissionArray(json[] sourcePermissionArrayJsonObject) returns Permission[] {
-    Permission[] permissions = [];
-    foreach json permissionObject in sourcePermissionArrayJsonObject {
-        Permission permission = mapJsonToPermissionType(permissionObject);
-        permissions.push(permission);
-    }
-    return permissions;
-}
-
-# Convert JSON array of offer infromation in to an array of type `Offer`.
-#
-# + sourceOfferArrayJsonObject - JSON object which contain the array of offer information
-# + return - An array of type `Offer`
-isolated function convertToOfferArray(json[] sourceOfferArrayJsonObject) returns Offer[] {
-    Offer[] offers = [];
-    foreach json offerObject in sourceOfferArrayJsonObject {
-        Offer offer = mapJsonToOfferType(offerObject);
-        offers.push(offer);
-    }
-    return offers;
-}
-
-# Convert JSON array of partition key ranges in to an array of type `PartitionKeyRange`.
-#
-# + sourcePrtitionKeyArrayJsonObject - JSON object which contain the array of partition key range information
-# + return - An array of type `PartitionKeyRange`
-isolated function convertToPartitionKeyRangeArray(json[] sourcePrtitionKeyArrayJsonObject) returns
-                                                  PartitionKeyRange[] {
-    PartitionKeyRange[] partitionKeyRangesArray = [];
-    foreach json jsonPartitionKey in sourcePrtitionKeyArrayJsonObject {
-        PartitionKeyRange value = {
-            id: let var id = jsonPartitionKey.id in id is string ? id : EMPTY_STRING,
-            minInclusive: let var min = jsonPartitionKey.minInclusive in min is string ? min : EMPTY_STRING,
-            maxExclusive: let var max = jsonPartitionKey.maxExclusive in max is string ? max : EMPTY_STRING
-        };
-        partitionKeyRangesArray.push(value);
+// This stream implementer feeds the bulk operations read from a stream to a single bulk execution, in chunks which are
+// read ahead while the results of the earlier chunks are consumed
+class BulkResultStream {
+    private final stream<ItemOperation, error?> operations;
+    private final handle feed;
+    private final stream<ItemOperationResult, error?> results;
+    private final int chunkSize;
+    private int submittedOperations = 0;
+    private int returnedResults = 0;
+    private boolean operationsCompleted = false;
+
+    isolated function init(DataPlaneClient dataClient, string databaseId, string containerId,
+                           stream<ItemOperation, error?> operations, BulkExecutionOptions options) returns error? {
+        if options.streamChunkSize <= 0 {
+            return error Error(string `Stream chunk size must be positive, but is ${options.streamChunkSize}`);
+        }
+        self.operations = operations;
+        self.chunkSize = options.streamChunkSize;
+        self.feed = check openBulkExecution(dataClient, databaseId, containerId, options);
+        self.results = getBulkResults(self.feed);
+    }
+
+    public isolated function next() returns record {| ItemOperationResult value; |}|error? {
+        // Up to two chunks are kept submitted ahead of the results, so that the bulk executor has the operations of 
+        // the next chunk while the results of the current one are consumed.
+        while !self.operationsCompleted && self.submittedOperations - self.returnedResults < 2 * self.chunkSize {
+            ItemOperation[]|error chunk = self.readChunk();
+            if chunk is error {
+                // The operations which are already submitted are cancelled along with the results.
+                completeBulkOperations(self.feed);
+                check self.results.close();
+                return chunk;
+            }
+            if chunk.length() > 0 {
+                check submitBulkOperations(self.feed, chunk, self.submittedOperations);
+                self.submittedOperations += chunk.length();
+            }
+            if self.operationsCompleted {
+                completeBulkOperations(self.feed);
+            }
+        }
+        record {| ItemOperationResult value; |}? result = check self.results.next();
+        if result is record {| ItemOperationResult value; |} {
+            self.returnedResults += 1;
+        }
+        return result;
+    }
+
+    public isolated function close() returns error? {
+        self.operationsCompleted = true;
+        completeBulkOperations(self.feed);
+        check self.results.close();
+        return self.operations.close();
+    }
+
+    isolated function readChunk() returns ItemOperation[]|error {
+        ItemOperation[] chunk = [];
+        while chunk.length() < self.chunkSize {
+            record {| ItemOperation value; |}? operation = check self.operations.next();
+            if operation is () {
+                self.operationsCompleted = true;
+                break;
+            }
+            chunk.push(operation.value);
+        }
+        return chunk;
     }
-    return partitionKeyRangesArray;
 }
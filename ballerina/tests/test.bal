@@ -185,6 +185,18 @@ function testListAllDatabases() {
     }
 }
 
+@test:Config {
+    groups: ["database"]
+}
+function testCloseDatabaseStream() returns error? {
+    log:printInfo("ACTION : closeDatabaseStream()");
+
+    stream<Database, error?> result = check azureCosmosManagementClient->listDatabases();
+    record {| Database value; |}? first = check result.next();
+    test:assertTrue(first is record {| Database value; |});
+    check result.close();
+}
+
 @test:Config {
     groups: ["database"]
 }
@@ -389,6 +401,9 @@ function testCreateDocument() returns error? {
 
     DocumentResponse response = check azureCosmosClient->createDocument(databaseId, containerId, documentId, documentBody, valueOfPartitionKey);
     test:assertEquals(response.statusCode, 201);
+    json createdDocument = response?.item;
+    test:assertEquals(check createdDocument.LastName, "Thaulow");
+    test:assertEquals(check createdDocument.AccountNumber, 1234);
 }
 
 @test:Config {
@@ -414,6 +429,31 @@ function testReplaceDocument() returns error? {
     test:assertEquals(response.statusCode, 200);
 }
 
+@test:Config {
+    groups: ["document"],
+    dependsOn: [testReplaceDocument]
+}
+function testPatchDocument() returns error? {
+    log:printInfo("ACTION : patchDocument()");
+
+    int valueOfPartitionKey = 1234;
+    PatchOperation[] patchOperations = [
+        {operationType: PATCH_SET, path: "/LastName", value: "Anderson"},
+        {operationType: PATCH_ADD, path: "/Visits", value: 1},
+        {operationType: PATCH_INCREMENT, path: "/Visits", value: 2}
+    ];
+    DocumentResponse response = check azureCosmosClient->patchDocument(databaseId, containerId, documentId,
+        patchOperations, valueOfPartitionKey, {filterPredicate: "from c where c.LastName = 'Mark'"});
+    test:assertEquals(response.statusCode, 200);
+    json item = response?.item;
+    test:assertEquals(check item.LastName, "Anderson");
+    test:assertEquals(check item.Visits, 3);
+
+    DocumentResponse|error failedResponse = azureCosmosClient->patchDocument(databaseId, containerId, documentId,
+        patchOperations, valueOfPartitionKey, {filterPredicate: "from c where c.LastName = 'Mark'"});
+    test:assertTrue(failedResponse is error);
+}
+
 @test:Config {
     groups: ["document"],
     dependsOn: [testCreateContainer]
@@ -593,6 +633,263 @@ function testGetOneDocumentWithRequestOptions() returns error? {
     test:assertEquals(AccountNumber, result.AccountNumber);
 }
 
+@test:Config {
+    groups: ["document"],
+    dependsOn: [testCreateDocument]
+}
+function testCloseClientWithSharedConnections() returns error? {
+    log:printInfo("ACTION : closeClientWithSharedConnections()");
+
+    int valueOfPartitionKey = 1234;
+    DataPlaneClient sharedClient = check new (config);
+    Person result = check sharedClient->getDocument(databaseId, containerId, documentId, valueOfPartitionKey);
+    test:assertEquals(AccountNumber, result.AccountNumber);
+    check sharedClient->close();
+    check sharedClient->close();
+
+    Person|error closedResult = sharedClient->getDocument(databaseId, containerId, documentId, valueOfPartitionKey);
+    test:assertTrue(closedResult is error);
+    result = check azureCosmosClient->getDocument(databaseId, containerId, documentId, valueOfPartitionKey);
+    test:assertEquals(AccountNumber, result.AccountNumber);
+}
+
+@test:Config {
+    groups: ["document"],
+    dependsOn: [testCreateContainer]
+}
+function testResponseShape() returns error? {
+    log:printInfo("ACTION : responseShape()");
+
+    int valueOfPartitionKey = 1234;
+    string shapedDocumentId = string `shaped_${randomString.toString()}`;
+    DocumentResponse response = check azureCosmosClient->createDocument(databaseId, containerId, shapedDocumentId,
+        {LastName: "Shape", AccountNumber: valueOfPartitionKey}, valueOfPartitionKey,
+        {responseShape: RESPONSE_MINIMAL});
+    test:assertEquals(response.statusCode, 201);
+    test:assertTrue(response?.item is ());
+    test:assertTrue(response?.diagnostics is ());
+    test:assertEquals(response.responseHeaders, {});
+
+    response = check azureCosmosClient->replaceDocument(databaseId, containerId, shapedDocumentId,
+        {LastName: "Shaped", AccountNumber: valueOfPartitionKey}, valueOfPartitionKey,
+        {responseShape: RESPONSE_STANDARD});
+    json item = response?.item;
+    test:assertEquals(check item.LastName, "Shaped");
+    test:assertTrue(response?.diagnostics is ());
+
+    response = check azureCosmosClient->deleteDocument(databaseId, containerId, shapedDocumentId, valueOfPartitionKey);
+    test:assertTrue(response.responseHeaders.length() > 0);
+}
+
+@test:Config {
+    groups: ["document"],
+    dependsOn: [testCreateDocument]
+}
+function testClientWarmUp() returns error? {
+    log:printInfo("ACTION : clientWarmUp()");
+
+    int valueOfPartitionKey = 1234;
+    CustomClientConfiguration customConfig = {
+        consistencyLevel: SESSION,
+        directMode: {directConnectionConfig: {}},
+        connectionSharingAcrossClientsEnabled: true,
+        contentResponseOnWriteEnabled: true,
+        preferredRegions: [],
+        userAgentSuffix: "",
+        warmUp: {containers: [{databaseId, containerId}], aggressiveWarmupDuration: 5}
+    };
+    DataPlaneClient warmClient = check new ({...config, advanceClientConfig: customConfig});
+    WarmUpStatistics? statistics = warmClient.getWarmUpStatistics();
+    if statistics is () {
+        test:assertFail("Warm-up statistics not found");
+    }
+    test:assertEquals(statistics.containers, 1);
+    Person result = check warmClient->getDocument(databaseId, containerId, documentId, valueOfPartitionKey);
+    test:assertEquals(result.AccountNumber, 1234);
+    test:assertEquals(azureCosmosClient.getWarmUpStatistics(), ());
+    check warmClient->close();
+}
+
+@test:Config {
+    groups: ["document"],
+    dependsOn: [testCreateDocument]
+}
+function testAvailabilityStrategy() returns error? {
+    log:printInfo("ACTION : availabilityStrategy()");
+
+    int valueOfPartitionKey = 1234;
+    CustomClientConfiguration customConfig = {
+        consistencyLevel: SESSION,
+        directMode: {directConnectionConfig: {}},
+        connectionSharingAcrossClientsEnabled: true,
+        contentResponseOnWriteEnabled: true,
+        preferredRegions: [],
+        userAgentSuffix: "",
+        availabilityStrategy: {threshold: 100, thresholdStep: 50}
+    };
+    DataPlaneClient hedgingClient = check new ({...config, advanceClientConfig: customConfig});
+    Person result = check hedgingClient->getDocument(databaseId, containerId, documentId, valueOfPartitionKey);
+    test:assertEquals(result.AccountNumber, 1234);
+
+    stream<Person, error?> documents = check hedgingClient->queryDocuments(databaseId, containerId,
+        string `SELECT * FROM c WHERE c.id = '${documentId}'`);
+    Person[] people = check from Person person in documents select person;
+    test:assertEquals(people.length(), 1);
+
+    DocumentPage page = check hedgingClient->queryDocumentsPage(databaseId, containerId,
+        string `SELECT * FROM c WHERE c.id = '${documentId}'`);
+    test:assertTrue(page.diagnostics?.servingRegions is string[]);
+    check hedgingClient->close();
+}
+
+@test:Config {
+    groups: ["document"],
+    dependsOn: [testCreateDocument]
+}
+function testOperationMetrics() returns error? {
+    log:printInfo("ACTION : operationMetrics()");
+
+    int valueOfPartitionKey = 1234;
+    DataPlaneClient observedClient = check new ({...config, metrics: {samplingRate: 0.5}});
+    Person result = check observedClient->getDocument(databaseId, containerId, documentId, valueOfPartitionKey);
+    test:assertEquals(result.AccountNumber, 1234);
+    check observedClient->close();
+
+    ManagementClient observedManagementClient = check new ({...mgtClientConfig, metrics: {}});
+    Database database = check observedManagementClient->getDatabase(databaseId);
+    test:assertEquals(database.id, databaseId);
+}
+
+@test:Config {
+    groups: ["database"]
+}
+function testTransientRetries() returns error? {
+    log:printInfo("ACTION : transientRetries()");
+
+    ManagementClient retryingClient = check new ({
+        ...mgtClientConfig,
+        transientRetryConfig: {maxAttempts: 3, initialBackoff: 0.05, maxWaitTime: 2}
+    });
+    Database database = check retryingClient->getDatabase(databaseId);
+    test:assertEquals(database.id, databaseId);
+
+    ManagementClient nonRetryingClient = check new ({...mgtClientConfig, transientRetryConfig: {maxAttempts: 1}});
+    Database|Error result = nonRetryingClient->getDatabase(string `missing_${randomString.toString()}`);
+    if result is DbOperationError {
+        test:assertEquals(result.detail().status, 404);
+    } else {
+        test:assertFail("Expected a DbOperationError");
+    }
+}
+
+@test:Config {
+    groups: ["database"]
+}
+function testRequestSigning() returns error? {
+    log:printInfo("ACTION : requestSigning()");
+
+    handle signer = createSigner("dGVzdC1rZXk=");
+    string signature = check sign(signer, "GET", RESOURCE_TYPE_DATABASES, "dbs/db1",
+        "Thu, 27 Apr 2017 00:51:12 GMT");
+    test:assertEquals(signature, "type%3Dmaster%26ver%3D1.0%26sig%3DG1JCzlMy8bvrsaIkxl21x%2BMVkzQKL7FWYtjhWbPQKwM%3D");
+    test:assertTrue(getRequestDate().endsWith(" GMT"));
+
+    string resourceToken = "type=resource&ver=1.0&sig=token";
+    test:assertEquals(check sign(createSigner(resourceToken), "GET", RESOURCE_TYPE_DATABASES, "dbs/db1",
+        getRequestDate()), "type%3Dresource%26ver%3D1.0%26sig%3Dtoken");
+}
+
+@test:Config {
+    groups: ["document"],
+    dependsOn: [testCreateDocument]
+}
+function testThroughputControl() returns error? {
+    log:printInfo("ACTION : throughputControl()");
+
+    int valueOfPartitionKey = 1234;
+    DataPlaneClient throttledClient = check new ({
+        ...config,
+        throughputControlGroups: [
+            {groupName: "background", databaseId, containerId, targetThroughput: 100,
+                priority: PRIORITY_BACKGROUND},
+            {groupName: "interactive", databaseId, containerId, targetThroughputThreshold: 0.8, isDefault: true}
+        ]
+    });
+    Person result = check throttledClient->getDocument(databaseId, containerId, documentId, valueOfPartitionKey,
+        {throughputControlGroupName: "background"});
+    test:assertEquals(result.AccountNumber, 1234);
+    stream<record {}, error?> results = check throttledClient->queryDocuments(databaseId, containerId,
+        "SELECT * FROM c", {throughputControlGroupName: "background"});
+    check results.close();
+    result = check throttledClient->getDocument(databaseId, containerId, documentId, valueOfPartitionKey);
+    test:assertEquals(result.AccountNumber, 1234);
+    check throttledClient->close();
+}
+
+@test:Config {
+    groups: ["document"],
+    dependsOn: [testCreateContainer]
+}
+function testSessionTokens() returns error? {
+    log:printInfo("ACTION : sessionTokens()");
+
+    int valueOfPartitionKey = 1234;
+    string sessionDocumentId = string `session_${randomString.toString()}`;
+    DataPlaneClient writingClient = check new ({...config, manageSessionTokens: true});
+    DataPlaneClient readingClient = check new ({...config, manageSessionTokens: true});
+    test:assertTrue(writingClient.getSessionToken(databaseId, containerId) is ());
+    _ = check writingClient->createDocument(databaseId, containerId, sessionDocumentId,
+        {LastName: "Session", AccountNumber: valueOfPartitionKey}, valueOfPartitionKey);
+    string? sessionToken = writingClient.getSessionToken(databaseId, containerId);
+    if sessionToken is () {
+        test:assertFail("Session token of the write is not kept");
+    }
+    check readingClient.mergeSessionToken(databaseId, containerId, sessionToken);
+    test:assertEquals(readingClient.getSessionToken(databaseId, containerId), sessionToken);
+    record {string LastName;} result = check readingClient->getDocument(databaseId, containerId, sessionDocumentId,
+        valueOfPartitionKey);
+    test:assertEquals(result.LastName, "Session");
+
+    test:assertTrue(readingClient.mergeSessionToken(databaseId, containerId, "malformed") is Error);
+    test:assertTrue(azureCosmosClient.mergeSessionToken(databaseId, containerId, sessionToken) is Error);
+    _ = check writingClient->deleteDocument(databaseId, containerId, sessionDocumentId, valueOfPartitionKey);
+    check writingClient->close();
+    check readingClient->close();
+}
+
+@test:Config {
+    groups: ["document"],
+    dependsOn: [testCreateContainer]
+}
+function testDocumentCache() returns error? {
+    log:printInfo("ACTION : documentCache()");
+
+    int valueOfPartitionKey = 1234;
+    string cachedDocumentId = string `cached_${randomString.toString()}`;
+    DataPlaneClient cachingClient = check new ({...config, documentCache: {maxEntries: 10, timeToLive: 60}});
+    _ = check cachingClient->createDocument(databaseId, containerId, cachedDocumentId,
+        {LastName: "Cache", AccountNumber: valueOfPartitionKey}, valueOfPartitionKey);
+    record {string LastName;} result = check cachingClient->getDocument(databaseId, containerId, cachedDocumentId,
+        valueOfPartitionKey);
+    result.LastName = "Modified";
+    result = check cachingClient->getDocument(databaseId, containerId, cachedDocumentId, valueOfPartitionKey);
+    test:assertEquals(result.LastName, "Cache");
+    TransactionalBatch batch = new (valueOfPartitionKey);
+    _ = batch.upsertItem({id: cachedDocumentId, LastName: "Batch", AccountNumber: valueOfPartitionKey});
+    _ = check cachingClient->executeTransactionalBatch(databaseId, containerId, batch);
+    result = check cachingClient->getDocument(databaseId, containerId, cachedDocumentId, valueOfPartitionKey);
+    test:assertEquals(result.LastName, "Batch");
+    _ = check cachingClient->deleteDocument(databaseId, containerId, cachedDocumentId, valueOfPartitionKey);
+    record {}|error deletedResult = cachingClient->getDocument(databaseId, containerId, cachedDocumentId,
+        valueOfPartitionKey);
+    test:assertTrue(deletedResult is error);
+
+    DocumentCacheStatistics? statistics = cachingClient.getDocumentCacheStatistics();
+    test:assertEquals(statistics, {hits: 1, misses: 3, revalidations: 0, evictions: 0, size: 0});
+    test:assertEquals(azureCosmosClient.getDocumentCacheStatistics(), ());
+    check cachingClient->close();
+}
+
 @test:Config {
     groups: ["document"],
     dependsOn: [testCreateContainer]
@@ -609,6 +906,166 @@ function testQueryDocuments() returns error? {
 
 }
 
+@test:Config {
+    groups: ["document"],
+    dependsOn: [testCreateDocument]
+}
+function testResultPrefetch() returns error? {
+    log:printInfo("ACTION : resultPrefetch()");
+
+    int valueOfPartitionKey = 1234;
+    DataPlaneClient prefetchingClient = check new ({...config, resultPrefetch: {maxPages: 3, maxItems: 100}});
+    stream<Person, error?> result = check prefetchingClient->getDocumentList(databaseId, containerId,
+        valueOfPartitionKey);
+    Person[] people = check from Person person in result select person;
+    stream<Person, error?> expected = check azureCosmosClient->getDocumentList(databaseId, containerId,
+        valueOfPartitionKey);
+    test:assertEquals(people.length(), (check from Person person in expected select person).length());
+
+    stream<Person, error?> abandoned = check prefetchingClient->queryDocuments(databaseId, containerId,
+        "SELECT * FROM c");
+    _ = check abandoned.next();
+    check abandoned.close();
+    test:assertEquals(check abandoned.next(), ());
+    check prefetchingClient->close();
+}
+
+@test:Config {
+    groups: ["document"],
+    dependsOn: [testCreateContainer]
+}
+function testQueryDocumentsWithParameters() returns error? {
+    log:printInfo("ACTION : queryDocumentsWithParameters()");
+
+    SqlQuerySpec query = {
+        query: string `SELECT * FROM ${containerId} f WHERE f.Address.City = @city`,
+        parameters: {city: "Seattle"}
+    };
+    stream<Person, error?> result = check azureCosmosClient->queryDocuments(databaseId, containerId, query);
+    check result.forEach(isolated function(Person queryResult) {
+        test:assertEquals("Seattle", queryResult.Address.City);
+    });
+}
+
+type PersonPage record {|
+    *DocumentPage;
+    Person[] items;
+|};
+
+@test:Config {
+    groups: ["document"],
+    dependsOn: [testCreateDocument]
+}
+function testQueryDocumentsPage() returns error? {
+    log:printInfo("ACTION : queryDocumentsPage()");
+
+    string query = string `SELECT * FROM ${containerId} f WHERE f.Address.City = 'Seattle'`;
+    Person[] people = [];
+    string? continuationToken = ();
+    while true {
+        PersonPage page = check azureCosmosClient->queryDocumentsPage(databaseId, containerId, query,
+            continuationToken = continuationToken, pageSize = 1);
+        test:assertTrue(page.items.length() <= 1);
+        test:assertTrue(page.requestCharge > 0.0);
+        people.push(...page.items);
+        continuationToken = page?.continuationToken;
+        if continuationToken is () {
+            break;
+        }
+    }
+    test:assertTrue(people.length() > 0);
+    foreach Person person in people {
+        test:assertEquals(person.Address.City, "Seattle");
+    }
+}
+
+@test:Config {
+    groups: ["document"],
+    dependsOn: [testCreateDocument]
+}
+function testGetDocuments() returns error? {
+    log:printInfo("ACTION : getDocuments()");
+
+    int valueOfPartitionKey = 1234;
+    DocumentIdentity[] documentIds = [
+        {id: string `missing_${randomString.toString()}`, partitionKey: valueOfPartitionKey},
+        {id: documentId, partitionKey: valueOfPartitionKey}
+    ];
+    (Person?)[] documents = check azureCosmosClient->getDocuments(databaseId, containerId, documentIds);
+    test:assertEquals(documents.length(), 2);
+    test:assertTrue(documents[0] is ());
+    Person? person = documents[1];
+    if person is () {
+        test:assertFail("Document not found");
+    }
+    test:assertEquals(person.AccountNumber, 1234);
+}
+
+@test:Config {
+    groups: ["document"],
+    dependsOn: [testCreateDocument]
+}
+function testQueryDocumentsByFeedRange() returns error? {
+    log:printInfo("ACTION : queryDocumentsByFeedRange()");
+
+    string query = "SELECT * FROM c";
+    stream<record {}, error?> allDocuments = check azureCosmosClient->queryDocuments(databaseId, containerId, query);
+    int expected = (check from record {} document in allDocuments select document).length();
+
+    stream<record {}, error?>[] rangeStreams = check azureCosmosClient->queryDocumentsByFeedRange(databaseId,
+        containerId, query);
+    string[] feedRanges = check azureCosmosClient->getFeedRanges(databaseId, containerId);
+    test:assertEquals(rangeStreams.length(), feedRanges.length());
+    int count = 0;
+    foreach stream<record {}, error?> rangeStream in rangeStreams {
+        count += (check from record {} document in rangeStream select document).length();
+    }
+    test:assertEquals(count, expected);
+
+    stream<record {}, error?> merged = check azureCosmosClient->queryDocumentsInParallel(databaseId, containerId,
+        query, {maxConcurrency: 2});
+    test:assertEquals((check from record {} document in merged select document).length(), expected);
+
+    stream<record {}, error?>|error invalidConcurrency = azureCosmosClient->queryDocumentsInParallel(databaseId,
+        containerId, query, {maxConcurrency: 0});
+    test:assertTrue(invalidConcurrency is error);
+}
+
+@test:Config {
+    groups: ["document"],
+    dependsOn: [testCreateDocument]
+}
+function testQueryChangeFeed() returns error? {
+    log:printInfo("ACTION : queryChangeFeed()");
+
+    string[] feedRanges = check azureCosmosClient->getFeedRanges(databaseId, containerId);
+    test:assertTrue(feedRanges.length() > 0);
+
+    int changes = 0;
+    string[] continuationTokens = [];
+    foreach string feedRange in feedRanges {
+        stream<record {}, error?> result = check azureCosmosClient->queryChangeFeed(databaseId, containerId,
+            {feedRange: feedRange});
+        check result.forEach(function(record {} document) {
+            changes += 1;
+        });
+        string? continuationToken = getContinuationToken(result);
+        if continuationToken is string {
+            continuationTokens.push(continuationToken);
+        }
+    }
+    test:assertTrue(changes > 0);
+    test:assertEquals(continuationTokens.length(), feedRanges.length());
+
+    // Resuming from the checkpoints only returns the changes made after the previous read.
+    foreach string continuationToken in continuationTokens {
+        stream<record {}, error?> result = check azureCosmosClient->queryChangeFeed(databaseId, containerId,
+            {continuationToken: continuationToken});
+        record {|record {} value;|}? next = check result.next();
+        test:assertTrue(next is ());
+    }
+}
+
 @test:Config {
     groups: ["document"],
     dependsOn: [testCreateContainer]
@@ -638,7 +1095,8 @@ function testQueryDocumentsWithRequestOptions() returns error? {
         testQueryDocuments,
         testGetDocumentList,
         testGetDocumentListWithRequestOptions,
-        testReplaceDocument
+        testReplaceDocument,
+        testPatchDocument
     ]
 }
 function testDeleteDocument() returns error? {
@@ -648,6 +1106,108 @@ function testDeleteDocument() returns error? {
     test:assertEquals(response.statusCode, 204);
 }
 
+@test:Config {
+    groups: ["document"],
+    dependsOn: [testCreateContainer]
+}
+function testExecuteBulkOperations() returns error? {
+    log:printInfo("ACTION : executeBulkOperations()");
+
+    int valueOfPartitionKey = 5678;
+    string bulkDocumentId = string `bulk_${randomString.toString()}`;
+    ItemOperation[] operations = [
+        {
+            operationType: CREATE_ITEM,
+            id: bulkDocumentId,
+            partitionKey: valueOfPartitionKey,
+            document: {"LastName": "Bulk", "AccountNumber": valueOfPartitionKey}
+        },
+        {
+            operationType: UPSERT_ITEM,
+            partitionKey: valueOfPartitionKey,
+            document: {"id": string `${bulkDocumentId}_1`, "LastName": "Bulk", "AccountNumber": valueOfPartitionKey}
+        },
+        {
+            operationType: CREATE_ITEM,
+            id: bulkDocumentId,
+            partitionKey: valueOfPartitionKey,
+            document: {"LastName": "Bulk", "AccountNumber": valueOfPartitionKey}
+        }
+    ];
+    stream<ItemOperationResult, error?> results = check azureCosmosClient->executeBulkOperations(databaseId,
+        containerId, operations, {maxMicroBatchConcurrency: 1});
+    map<int> statusCodes = {};
+    check results.forEach(function(ItemOperationResult result) {
+        statusCodes[result.index.toString()] = result.statusCode;
+    });
+    test:assertEquals(statusCodes.length(), 3);
+    test:assertTrue(statusCodes["0"] == 201 || statusCodes["2"] == 201);
+    test:assertTrue(statusCodes["0"] == 409 || statusCodes["2"] == 409);
+    test:assertEquals(statusCodes["1"], 201);
+}
+
+@test:Config {
+    groups: ["document"],
+    dependsOn: [testExecuteBulkOperations]
+}
+function testExecuteBulkOperationsFromStream() returns error? {
+    log:printInfo("ACTION : executeBulkOperationsFromStream()");
+
+    int valueOfPartitionKey = 5678;
+    string bulkDocumentId = string `bulk_${randomString.toString()}`;
+    // Operations read from a stream run concurrently, hence none of them depends on another.
+    ItemOperation[] operations = [
+        {operationType: READ_ITEM, id: bulkDocumentId, partitionKey: valueOfPartitionKey},
+        {operationType: DELETE_ITEM, id: string `${bulkDocumentId}_1`, partitionKey: valueOfPartitionKey},
+        {operationType: READ_ITEM, id: string `${bulkDocumentId}_2`, partitionKey: valueOfPartitionKey}
+    ];
+    stream<ItemOperationResult, error?> results = check azureCosmosClient->executeBulkOperations(databaseId,
+        containerId, operations.toStream(), {streamChunkSize: 1});
+    ItemOperationResult[] resultList = check from ItemOperationResult result in results
+        order by result.index
+        select result;
+    test:assertEquals(resultList.length(), 3);
+    test:assertEquals(resultList[0].statusCode, 200);
+    json item = resultList[0]?.item;
+    test:assertEquals(check item.LastName, "Bulk");
+    test:assertEquals(resultList[1].statusCode, 204);
+    test:assertEquals(resultList[2].statusCode, 404);
+    _ = check azureCosmosClient->deleteDocument(databaseId, containerId, bulkDocumentId, valueOfPartitionKey);
+
+    stream<ItemOperationResult, error?>|error invalidChunkSize = azureCosmosClient->executeBulkOperations(databaseId,
+        containerId, operations.toStream(), {streamChunkSize: 0});
+    test:assertTrue(invalidChunkSize is error);
+
+    stream<ItemOperationResult, error?> closedResults = check azureCosmosClient->executeBulkOperations(databaseId,
+        containerId, operations.toStream(), {streamChunkSize: 1});
+    check closedResults.close();
+    test:assertEquals(check closedResults.next(), ());
+}
+
+@test:Config {
+    groups: ["document"],
+    dependsOn: [testExecuteBulkOperationsFromStream]
+}
+function testExecuteTransactionalBatch() returns error? {
+    log:printInfo("ACTION : executeTransactionalBatch()");
+
+    int valueOfPartitionKey = 5678;
+    string batchDocumentId = string `batch_${randomString.toString()}`;
+    TransactionalBatch batch = new (valueOfPartitionKey);
+    _ = batch.createItem({id: batchDocumentId, LastName: "Batch", AccountNumber: valueOfPartitionKey})
+        .upsertItem({id: string `${batchDocumentId}_1`, LastName: "Batch", AccountNumber: valueOfPartitionKey})
+        .readItem(batchDocumentId)
+        .deleteItem(batchDocumentId)
+        .deleteItem(string `${batchDocumentId}_1`);
+    TransactionalBatchResponse response = check azureCosmosClient->executeTransactionalBatch(databaseId, containerId,
+        batch);
+    test:assertTrue(response.isSuccessStatusCode);
+    test:assertEquals(response.results.length(), 5);
+    test:assertEquals(response.results[0].statusCode, 201);
+    json item = response.results[2]?.item;
+    test:assertEquals(check item.LastName, "Batch");
+}
+
 @test:Config {
     groups: ["storedProcedure"],
     dependsOn: [testCreateContainer]
@@ -682,6 +1242,32 @@ function testExecuteOneStoredProcedure() returns error? {
 
 }
 
+@test:Config {
+    groups: ["storedProcedure"],
+    dependsOn: [testCreateContainer]
+}
+function testExecuteStoredProcedureInBulk() returns error? {
+    log:printInfo("ACTION : executeStoredProcedureInBulk()");
+
+    string bulkSprocId = string `bulksproc_${randomString.toString()}`;
+    string bulkSprocBody = string `function (docs, limit) {
+                                        var count = Math.min(docs.length, limit.perExecution);
+                                        getContext().getResponse().setBody(count);
+                                    }`;
+    _ = check azureCosmosClient->createStoredProcedure(databaseId, containerId, bulkSprocId, bulkSprocBody);
+
+    json[] documents = from int i in 0 ..< 5 select {id: i.toString(), AccountNumber: 1234};
+    StoredProcedureBulkResult result = check azureCosmosClient->executeStoredProcedureInBulk(databaseId, containerId,
+        bulkSprocId, 1234, documents, {parameters: [{perExecution: 2}]});
+    test:assertEquals(result.processedCount, 5);
+    test:assertEquals(result.executionCount, 3);
+
+    StoredProcedureResponse response = check azureCosmosClient->executeStoredProcedure(databaseId, containerId,
+        bulkSprocId, 1234, {parameters: [documents, {perExecution: 10}]});
+    test:assertEquals(response.responseAsJson, 5);
+    _ = check azureCosmosClient->deleteStoredProcedure(databaseId, containerId, bulkSprocId);
+}
+
 @test:Config {
     groups: ["storedProcedure"],
     dependsOn: [testCreateContainer]
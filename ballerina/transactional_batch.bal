@@ -0,0 +1,129 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+# A set of operations on documents of a single logical partition. The operations of a batch are executed in order as
+# a single transaction. Either all of them succeed, or none of them are applied.
+public class TransactionalBatch {
+
+    private final int|float|decimal|string partitionKey;
+    private ItemOperation[] operations = [];
+
+    # Creates an empty batch.
+    #
+    # + partitionKey - The value of the partition key field of the documents in the batch
+    public isolated function init(int|float|decimal|string partitionKey) {
+        self.partitionKey = partitionKey;
+    }
+
+    # Adds an operation which creates a document.
+    #
+    # + document - A JSON document to be saved in the database
+    # + id - ID of the document, if the document does not have an `id` field
+    # + return - The batch
+    public isolated function createItem(map<json> document, string? id = ()) returns TransactionalBatch {
+        ItemOperation operation = {operationType: CREATE_ITEM, partitionKey: self.partitionKey, document: document};
+        if id is string {
+            operation.id = id;
+        }
+        self.operations.push(operation);
+        return self;
+    }
+
+    # Adds an operation which creates a document, or replaces the document if it already exists.
+    #
+    # + document - A JSON document to be saved in the database
+    # + id - ID of the document, if the document does not have an `id` field
+    # + return - The batch
+    public isolated function upsertItem(map<json> document, string? id = ()) returns TransactionalBatch {
+        ItemOperation operation = {operationType: UPSERT_ITEM, partitionKey: self.partitionKey, document: document};
+        if id is string {
+            operation.id = id;
+        }
+        self.operations.push(operation);
+        return self;
+    }
+
+    # Adds an operation which replaces a document.
+    #
+    # + id - ID of the document
+    # + document - A JSON document which will replace the existing document
+    # + ifMatchETag - The document is replaced only if its ETag matches this value
+    # + return - The batch
+    public isolated function replaceItem(string id, map<json> document, string? ifMatchETag = ())
+                                        returns TransactionalBatch {
+        ItemOperation operation = {operationType: REPLACE_ITEM, id: id, partitionKey: self.partitionKey,
+            document: document};
+        if ifMatchETag is string {
+            operation.ifMatchETag = ifMatchETag;
+        }
+        self.operations.push(operation);
+        return self;
+    }
+
+    # Adds an operation which reads a document.
+    #
+    # + id - ID of the document
+    # + return - The batch
+    public isolated function readItem(string id) returns TransactionalBatch {
+        self.operations.push({operationType: READ_ITEM, id: id, partitionKey: self.partitionKey});
+        return self;
+    }
+
+    # Adds an operation which deletes a document.
+    #
+    # + id - ID of the document
+    # + ifMatchETag - The document is deleted only if its ETag matches this value
+    # + return - The batch
+    public isolated function deleteItem(string id, string? ifMatchETag = ()) returns TransactionalBatch {
+        ItemOperation operation = {operationType: DELETE_ITEM, id: id, partitionKey: self.partitionKey};
+        if ifMatchETag is string {
+            operation.ifMatchETag = ifMatchETag;
+        }
+        self.operations.push(operation);
+        return self;
+    }
+
+    # Adds an operation which applies a set of patch operations to a document.
+    #
+    # + id - ID of the document
+    # + patchOperations - The patch operations to apply
+    # + ifMatchETag - The document is patched only if its ETag matches this value
+    # + return - The batch
+    public isolated function patchItem(string id, PatchOperation[] patchOperations, string? ifMatchETag = ())
+                                        returns TransactionalBatch {
+        ItemOperation operation = {operationType: PATCH_ITEM, id: id, partitionKey: self.partitionKey,
+            patchOperations: patchOperations};
+        if ifMatchETag is string {
+            operation.ifMatchETag = ifMatchETag;
+        }
+        self.operations.push(operation);
+        return self;
+    }
+
+    # Gets the partition key of the batch.
+    #
+    # + return - The value of the partition key field of the documents in the batch
+    public isolated function getPartitionKey() returns int|float|decimal|string {
+        return self.partitionKey;
+    }
+
+    # Gets the operations added to the batch.
+    #
+    # + return - The operations, in the order they were added
+    public isolated function getOperations() returns ItemOperation[] {
+        return self.operations.clone();
+    }
+}
@@ -15,6 +15,7 @@
 // under the License. 
 
 import ballerina/http;
+import ballerina/time;
 import ballerinax/'client.config;
 
 # CosmosDB Management Client configurations.
@@ -33,6 +34,79 @@ public type ManagementClientConfig record {|
     string primaryKeyOrResourceToken;
     # The HTTP version understood by the client
     http:HttpVersion httpVersion = http:HTTP_1_1;
+    # Enables recording the metrics of the operations of the client
+    MetricsConfig metrics?;
+    # Retries of the requests which fail with a transient error, such as throttling
+    TransientRetryConfig transientRetryConfig = {};
+|};
+
+# Configuration of the retries of the requests of the management client which fail with a transient status code, 
+# such as 429 (throttled) or 503 (unavailable). A retry waits for the time asked for by the `x-ms-retry-after-ms` or 
+# `Retry-After` header of the response. If the response does not ask for a time, the wait grows exponentially, with 
+# random jitter, from `initialBackoff` up to `maxBackoff`. Each retry is signed again with the current date.
+#
+# + maxAttempts - Maximum number of attempts of a request, including the first one. Set to 1 to disable retries.
+# + initialBackoff - Wait before the first retry (in seconds)
+# + backoffFactor - Factor by which the wait grows with each retry
+# + maxBackoff - Maximum wait before a retry (in seconds)
+# + maxWaitTime - Maximum total wait across the retries of a request (in seconds). A request is not retried if the 
+#                 next wait would exceed it.
+# + statusCodes - Status codes of the responses which are retried, except for requests which create a resource
+# + createStatusCodes - Status codes of the responses of requests which create a resource, which are retried. A 408 or 
+#                       503 response can be received after a create is applied, in which case the retry would fail with 
+#                       a conflict, hence by default only the status codes of requests which were not applied are 
+#                       retried. Queries are sent as `POST` requests as well, but are retried on `statusCodes`.
+@display{label: "Transient Retry Config"}
+public type TransientRetryConfig record {|
+    @display{label: "Max Attempts"}
+    int maxAttempts = 9;
+    @display{label: "Initial Backoff"}
+    decimal initialBackoff = 0.1;
+    @display{label: "Backoff Factor"}
+    float backoffFactor = 2.0;
+    @display{label: "Max Backoff"}
+    decimal maxBackoff = 5;
+    @display{label: "Max Wait Time"}
+    decimal maxWaitTime = 30;
+    @display{label: "Status Codes"}
+    int[] statusCodes = [408, 429, 449, 503];
+    @display{label: "Create Status Codes"}
+    int[] createStatusCodes = [429, 449];
+|};
+
+# Settings of the management client which apply to each of its requests.
+#
+# + signer - Signer of the requests, created with the primary key or resource token of the client
+# + metricsSamplingRate - Fraction of the requests whose metrics are recorded
+# + retryConfig - Retries of the requests which fail with a transient error
+type RequestSettings readonly & record {|
+    handle signer;
+    float metricsSamplingRate;
+    TransientRetryConfig retryConfig;
+|};
+
+# The request of the pages of a resource listing or query of the management client.
+#
+# + host - The host to which the requests are sent
+# + path - Request path of the resources
+# + itemsKey - Key of the response payload which holds the resources of a page
+# + headers - Optional headers of the requests
+# + query - SQL query of a query, which is sent as a `POST` request. A listing is sent as a `GET` request.
+type PageRequest readonly & record {|
+    string host;
+    string path;
+    string itemsKey;
+    map<string> headers = {};
+    string query?;
+|};
+
+# A page of resources returned by the management client.
+#
+# + items - The resources of the page
+# + continuationToken - Continuation token of the next page, or an empty string for the last page
+type ResourcePage record {|
+    json[] items;
+    string continuationToken;
 |};
 
 # Configuration parameters to create Azure Cosmos DB client.
@@ -40,6 +114,17 @@ public type ManagementClientConfig record {|
 # + baseUrl - Base URL of the Azure Cosmos DB account
 # + primaryKeyOrResourceToken - The token used to make the request call authorized
 # + advanceClientConfig - Custom parameters for client creation
+# + documentCache - Enables caching the documents read through `getDocument` in the client
+# + responseShape - Amount of information returned in the `cosmos_db:DocumentResponse` of document operations, 
+#                   unless a request sets its own
+# + metrics - Enables recording the metrics of the operations of the client
+# + throughputControlGroups - Groups of requests whose consumption of request units is limited by the client
+# + manageSessionTokens - Whether the client keeps the session tokens returned by its writes, per container and 
+#                         partition key range, and applies them to its reads which do not set a session token. The 
+#                         tokens can be read and merged through `getSessionToken` and `mergeSessionToken`, to read 
+#                         the writes of another client with `Session` consistency.
+# + resultPrefetch - Enables fetching the pages of the streams returned by the client ahead of their consumers. If not 
+#                    set, a page is fetched only once the results of the previous page are consumed.
 @display{label: "Connection Config"}
 public type ConnectionConfig record {|
     @display{label: "Base URL"}
@@ -48,6 +133,138 @@ public type ConnectionConfig record {|
     string primaryKeyOrResourceToken;
     @display{label: "Advanced Client Config"}
     CustomClientConfiguration advanceClientConfig?;
+    @display{label: "Document Cache"}
+    DocumentCacheConfig documentCache?;
+    @display{label: "Response Shape"}
+    ResponseShape responseShape = RESPONSE_FULL;
+    @display{label: "Metrics"}
+    MetricsConfig metrics?;
+    @display{label: "Throughput Control Groups"}
+    ThroughputControlGroupConfig[] throughputControlGroups?;
+    @display{label: "Manage Session Tokens"}
+    boolean manageSessionTokens = false;
+    @display{label: "Result Prefetch"}
+    ResultPrefetchConfig resultPrefetch?;
+|};
+
+# Configuration of the prefetching of the streams returned by `queryDocuments`, `getDocumentList`, 
+# `listStoredProcedures` and `queryChangeFeed`. While the consumer of a stream processes the buffered results, the 
+# pages which follow are fetched in the background, until the buffer holds `maxPages` pages or `maxItems` results. 
+# A stream which is not read to the end should be closed, so that the pages being fetched are cancelled.
+#
+# + maxPages - Maximum number of pages buffered or being fetched ahead of the consumer
+# + maxItems - Number of buffered results beyond which no more pages are fetched ahead of the consumer
+@display{label: "Result Prefetch Config"}
+public type ResultPrefetchConfig record {|
+    @display{label: "Max Pages"}
+    int maxPages = 2;
+    @display{label: "Max Items"}
+    int maxItems = 1000;
+|};
+
+# Configuration of the metrics of the operations of a client. The metrics are recorded in the Ballerina observability 
+# metrics, when metrics are enabled for the program, and are tagged with the operation, resource type, database and 
+# container. The latency, request charge and payload sizes are recorded per operation, along with the number of 
+# throttled operations, retries and contacted regions.
+#
+# + samplingRate - Fraction of the operations whose metrics are recorded, between 0.0 and 1.0. A stream of results is 
+#                  sampled as a whole when it is created.
+# + micrometerEnabled - Whether the meters of the Cosmos DB SDK are also published to the global Micrometer registry. 
+#                       Applies to the `cosmos_db:DataPlaneClient` only.
+@display{label: "Metrics Config"}
+public type MetricsConfig record {|
+    @display{label: "Sampling Rate"}
+    float samplingRate = 1.0;
+    @display{label: "Micrometer Enabled"}
+    boolean micrometerEnabled = false;
+|};
+
+# Configuration of a throughput control group of a container. The client keeps a budget of request units per second 
+# for the group, which is refilled each second and drawn down by the request charges of the requests of the group. 
+# Once the budget is used up, the requests of the group are held back, instead of being sent and throttled by the 
+# service. Requests join a group by naming it in their `throughputControlGroupName` option.
+#
+# + groupName - Name of the group
+# + databaseId - ID of the database of the container
+# + containerId - ID of the container
+# + targetThroughput - Request units per second which the group may consume
+# + targetThroughputThreshold - Fraction of the provisioned throughput of the container which the group may consume, 
+#                               between 0.0 and 1.0. Either this or `targetThroughput` must be given.
+# + priority - Priority lane of the requests of the group. When the container is short of throughput, the service 
+#              throttles background requests before interactive ones. This requires priority-based execution to be 
+#              enabled on the account.
+# + isDefault - Whether the requests on the container which do not name a group belong to this group. A container 
+#               can have only one default group.
+# + global - Shares the budget of the group among all clients which use the same control container. If not given, 
+#            the budget applies to this client only.
+@display{label: "Throughput Control Group Config"}
+public type ThroughputControlGroupConfig record {|
+    @display{label: "Group Name"}
+    string groupName;
+    @display{label: "Database ID"}
+    string databaseId;
+    @display{label: "Container ID"}
+    string containerId;
+    @display{label: "Target Throughput"}
+    int targetThroughput?;
+    @display{label: "Target Throughput Threshold"}
+    float targetThroughputThreshold?;
+    @display{label: "Priority"}
+    ThroughputPriority priority = PRIORITY_INTERACTIVE;
+    @display{label: "Is Default"}
+    boolean isDefault = false;
+    @display{label: "Global Throughput Control"}
+    GlobalThroughputControlConfig global?;
+|};
+
+# Configuration of a throughput control group whose budget is shared among clients. The clients coordinate through 
+# documents in a control container, which must be partitioned by `/groupId`.
+#
+# + databaseId - ID of the database of the control container
+# + containerId - ID of the control container
+# + controlItemRenewInterval - Interval at which a client renews its share of the budget (in seconds)
+# + controlItemExpireInterval - Time after which the share of a client which stopped renewing it is released 
+#                               (in seconds)
+@display{label: "Global Throughput Control Config"}
+public type GlobalThroughputControlConfig record {|
+    @display{label: "Database ID"}
+    string databaseId;
+    @display{label: "Container ID"}
+    string containerId;
+    @display{label: "Control Item Renew Interval"}
+    int controlItemRenewInterval?;
+    @display{label: "Control Item Expire Interval"}
+    int controlItemExpireInterval?;
+|};
+
+# Configuration of the document cache of a client. Documents are cached by ID and partition key, and only reads 
+# without request options go through the cache. A document read after its time to live is revalidated with its ETag, 
+# which costs almost no request units if it has not changed. Documents written through the client, including the 
+# documents written by bulk operations and transactional batches, are removed from the cache.
+#
+# + maxEntries - Maximum number of documents in the cache. The least recently used documents are evicted first.
+# + timeToLive - Time for which a cached document is used without revalidation (in seconds)
+@display{label: "Document Cache Config"}
+public type DocumentCacheConfig record {|
+    @display{label: "Max Entries"}
+    int maxEntries = 10000;
+    @display{label: "Time To Live"}
+    int timeToLive = 30;
+|};
+
+# Statistics of the document cache of a client.
+#
+# + hits - Number of reads served from the cache
+# + misses - Number of reads of documents which were not in the cache
+# + revalidations - Number of reads which revalidated an expired document
+# + evictions - Number of documents evicted to keep the cache within its size
+# + size - Number of documents in the cache
+public type DocumentCacheStatistics record {|
+    int hits;
+    int misses;
+    int revalidations;
+    int evictions;
+    int size;
 |};
 
 # Custom parameters for client creation
@@ -59,6 +276,8 @@ public type ConnectionConfig record {|
 # in case of Create, Update and Delete operations on CosmosItem  
 # + preferredRegions - The preferred regions for geo-replicated database accounts  
 # + userAgentSuffix - The value of the user-agent suffix
+# + warmUp - Containers whose connections and caches are opened when the client is initialized
+# + availabilityStrategy - Hedging of the reads and queries to the next preferred regions
 public type CustomClientConfiguration record {|
     @display{label: "Consistency Level"}
     ConsistencyLevel consistencyLevel;
@@ -72,6 +291,68 @@ public type CustomClientConfiguration record {|
     string[] preferredRegions;
     @display{label: "User Agent Suffix"}
     string userAgentSuffix;
+    @display{label: "Warm Up"}
+    WarmUpConfig warmUp?;
+    @display{label: "Availability Strategy"}
+    AvailabilityStrategyConfig availabilityStrategy?;
+|};
+
+# Availability strategy of the reads and queries of a client. If a request does not complete within the threshold, 
+# the same request is sent to the next preferred region, and to each following preferred region after every 
+# threshold step. The first response is returned and the other requests are cancelled. Writes are never hedged.
+#
+# + threshold - Time to wait for the first region before a request is hedged (in milliseconds)
+# + thresholdStep - Time to wait before a request is hedged to each following preferred region (in milliseconds)
+# + endToEndTimeout - Time after which an operation fails, including all of its hedged requests (in milliseconds)
+# + operations - The operations which are hedged
+@display{label: "Availability Strategy Config"}
+public type AvailabilityStrategyConfig record {|
+    @display{label: "Threshold"}
+    int threshold = 500;
+    @display{label: "Threshold Step"}
+    int thresholdStep = 100;
+    @display{label: "End-to-End Timeout"}
+    int endToEndTimeout = 10000;
+    @display{label: "Hedged Operations"}
+    HedgedOperation[] operations = [HEDGED_READ, HEDGED_QUERY];
+|};
+
+# Configuration of the warm-up of a client. The connections to the replicas of the containers are opened, and the 
+# address and partition key range caches are filled, before the first request is made. The warm-up applies to the 
+# direct mode only.
+#
+# + containers - The containers to warm up
+# + proactiveConnectionRegionsCount - Number of preferred regions to which connections are opened
+# + aggressiveWarmupDuration - Time for which the initialization of the client waits for the connections to be 
+#                              opened (in seconds). The remaining connections are opened in the background. If not 
+#                              set, all connections are opened in the background.
+@display{label: "Warm Up Config"}
+public type WarmUpConfig record {|
+    @display{label: "Containers"}
+    ContainerIdentity[] containers;
+    @display{label: "Proactive Connection Regions Count"}
+    int proactiveConnectionRegionsCount = 1;
+    @display{label: "Aggressive Warmup Duration"}
+    int aggressiveWarmupDuration?;
+|};
+
+# Identifies a container by its ID and the ID of its database.
+#
+# + databaseId - ID of the database
+# + containerId - ID of the container
+public type ContainerIdentity record {|
+    string databaseId;
+    string containerId;
+|};
+
+# Statistics of the warm-up of a client.
+#
+# + containers - Number of containers warmed up
+# + duration - Time the initialization of the client waited for the warm-up (in milliseconds). A client which shares 
+#              the connections of an earlier client with the same configuration does not wait.
+public type WarmUpStatistics record {|
+    int containers;
+    int duration;
 |};
 
 # Represents DirectMode configuration.
@@ -389,7 +670,9 @@ public type Offer record {|
 # + preTriggerInclude - Triggers to be invoked before the operation
 # + sessionToken - The token for use with session consistency
 # + thresholdForDiagnosticsOnTracer - ThresholdForDiagnosticsOnTracer, if latency on CRUD operation is greater than this diagnostics will be sent to open telemetry exporter as events in tracer span of end to end CRUD api
-# + throughputControlGroupName - The throughput control group name
+# + throughputControlGroupName - Name of the throughput control group of the client which the request belongs to
+# + responseShape - Amount of information returned in the `cosmos_db:DocumentResponse`, which overrides the one of 
+#                   the client
 @display{label: "Document Create Options"}
 public type RequestOptions record {|
     @display{label: "Indexing Option"}
@@ -416,8 +699,94 @@ public type RequestOptions record {|
     int thresholdForDiagnosticsOnTracer?;
     @display{label: "Throughput Control Group Name"}
     string throughputControlGroupName?;
+    @display{label: "Response Shape"}
+    ResponseShape responseShape?;
+|};
+
+# Optional parameters which can be passed when patching a document.
+#
+# + filterPredicate - A SQL condition on the document, such as `from c where c.status = 'active'`. The patch is 
+#                     applied only if the document satisfies the condition.
+@display{label: "Document Patch Options"}
+public type PatchOptions record {|
+    *RequestOptions;
+    @display{label: "Filter Predicate"}
+    string filterPredicate?;
+|};
+
+
+# A parameterized SQL query. Since the query text stays the same for different parameter values, the query plan 
+# fetched for it is reused.
+#
+# + query - The SQL query, which refers to the parameters as `@name`
+# + parameters - Values of the parameters of the query, by name
+@display{label: "SQL Query Spec"}
+public type SqlQuerySpec record {|
+    @display{label: "Query"}
+    string query;
+    @display{label: "Parameters"}
+    map<json> parameters = {};
+|};
+
+# A page of the results of a query. To get typed items, include this record and narrow the type of `items`, such as 
+# `record {| *cosmos_db:DocumentPage; Person[] items; |}`.
+#
+# + items - The documents of the page
+# + continuationToken - Token from which the next page can be fetched. Absent on the last page.
+# + requestCharge - Request charge as request units (RU) consumed by the page
+# + diagnostics - Diagnostics information for the page
+public type DocumentPage record {|
+    record {}[] items;
+    string continuationToken?;
+    float requestCharge;
+    Diagnostics diagnostics?;
+|};
+
+# Identifies a document by its ID and the value of its partition key.
+#
+# + id - ID of the document
+# + partitionKey - The value of the partition key field of the document
+@display{label: "Document Identity"}
+public type DocumentIdentity record {|
+    @display{label: "Document ID"}
+    string id;
+    @display{label: "Partition Key"}
+    int|float|decimal|string partitionKey;
+|};
+
+# Optional parameters which can be passed when reading a set of documents.
+#
+# + sessionToken - The token for use with session consistency
+@display{label: "Read Many Options"}
+public type ReadManyOptions record {|
+    @display{label: "Session Token"}
+    string sessionToken?;
 |};
 
+# Optional parameters which can be passed when reading the change feed of a container.
+#
+# + startFrom - Position of the change feed from which changes are read
+# + pointInTime - The point in time from which changes are read, if `startFrom` is `START_FROM_POINT_IN_TIME`
+# + continuationToken - Continuation token of a previous read of the change feed. If given, the changes are read from 
+#                       where the previous read stopped, and `startFrom`, `pointInTime` and `feedRange` are ignored.
+# + feedRange - A feed range returned by `getFeedRanges`, to read only the changes of that range of partitions
+# + maxItemCount - Maximum number of changes fetched in a single request
+# + throughputControlGroupName - Name of the throughput control group of the client which the requests belong to
+@display{label: "Change Feed Options"}
+public type ChangeFeedOptions record {|
+    @display{label: "Start From"}
+    ChangeFeedStartFrom startFrom = START_FROM_BEGINNING;
+    @display{label: "Point In Time"}
+    time:Utc pointInTime?;
+    @display{label: "Continuation Token"}
+    string continuationToken?;
+    @display{label: "Feed Range"}
+    string feedRange?;
+    @display{label: "Max Item Count"}
+    int maxItemCount?;
+    @display{label: "Throughput Control Group Name"}
+    string throughputControlGroupName?;
+|};
 
 # Query Options
 #
@@ -435,7 +804,8 @@ public type RequestOptions record {|
 # + sessionToken - Session token for use with session consistency  
 # + thresholdForDiagnosticsOnTracer - If latency on query operation is greater than this diagnostics will be send to 
 #                                       open telemetry exporter as events in tracer span of end to end CRUD api.
-# + throughputControlGroupName - Throughput control group name.
+# + throughputControlGroupName - Name of the throughput control group of the client which the requests belong to
+# + feedRange - A feed range returned by `getFeedRanges`, to query only the documents of that range of partitions
 public type QueryOptions record {
     @display{label: "Consistency Level"}
     ConsistencyLevel consistencyLevel?;
@@ -461,8 +831,23 @@ public type QueryOptions record {
     int thresholdForDiagnosticsOnTracer?;
     @display{label: "Throughput Control Group Name"}
     string throughputControlGroupName?;
+    @display{label: "Feed Range"}
+    string feedRange?;
 };
 
+# Options of a query whose feed ranges are queried concurrently.
+#
+# + maxConcurrency - Maximum number of feed ranges queried at once, which must be positive. Each range being queried 
+#                    fetches at most one page ahead of the merged stream.
+# + queryOptions - The `cosmos_db:QueryOptions` of the query of each feed range. Its `feedRange` is ignored.
+@display{label: "Parallel Query Options"}
+public type ParallelQueryOptions record {|
+    @display{label: "Max Concurrency"}
+    int maxConcurrency = 4;
+    @display{label: "Query Options"}
+    QueryOptions queryOptions?;
+|};
+
 
 # Dedicated Gateway Request Options
 #
@@ -522,12 +907,29 @@ public type DocumentListOptions record {|
 
 # The options which can be passed for execution of stored procedures.
 # 
-# + parameters - An array of parameters which has values match the function parameters of a stored procedure
+# + parameters - An array of parameters which has values match the function parameters of a stored procedure. Each 
+#                parameter is passed to the stored procedure as a JSON value.
 # + cosmosStoredProcedureRequestOptions - 
 @display{label: "Stored Procedure Execute Options"}
 public type StoredProcedureExecuteOptions record {|
     @display{label: "Function Parameters"}
-    string[] parameters = [];
+    json[] parameters = [];
+    @display{label: "Cosmos Stored Procedure Request Options"}
+    CosmosStoredProcedureRequestOptions cosmosStoredProcedureRequestOptions?;
+|};
+
+# The options which can be passed for bulk execution of stored procedures.
+# 
+# + maxChunkSize - Maximum size of the documents passed to a single execution, in bytes. A document larger than this 
+#                  size is passed alone.
+# + parameters - Parameters passed to the stored procedure after the chunk of documents
+# + cosmosStoredProcedureRequestOptions - 
+@display{label: "Stored Procedure Bulk Options"}
+public type StoredProcedureBulkOptions record {|
+    @display{label: "Maximum Chunk Size"}
+    int maxChunkSize = 1048576;
+    @display{label: "Function Parameters"}
+    json[] parameters = [];
     @display{label: "Cosmos Stored Procedure Request Options"}
     CosmosStoredProcedureRequestOptions cosmosStoredProcedureRequestOptions?;
 |};
@@ -577,6 +979,81 @@ public type ResourceDeleteOptions record {|
     string sessionToken?;
 |};
 
+# An operation on a single document.
+# 
+# + operationType - Type of the operation
+# + id - ID of the document
+#      - Required for `Replace`, `Delete`, `Read` and `Patch` operations. For `Create` and `Upsert` operations, it is
+#        used as the ID of the document if the document does not have an `id` field.
+# + partitionKey - The value of the partition key field of the document
+# + document - The document to be written. Required for `Create`, `Upsert` and `Replace` operations.
+# + patchOperations - The patch operations to apply. Required for `Patch` operations.
+# + ifMatchETag - The operation is applied only if the ETag of the document matches this value
+@display{label: "Item Operation"}
+public type ItemOperation record {|
+    @display{label: "Operation Type"}
+    ItemOperationType operationType;
+    @display{label: "Document ID"}
+    string id?;
+    @display{label: "Partition Key"}
+    int|float|decimal|string partitionKey;
+    @display{label: "Document"}
+    map<json> document?;
+    @display{label: "Patch Operations"}
+    PatchOperation[] patchOperations?;
+    @display{label: "If Match ETag"}
+    string ifMatchETag?;
+|};
+
+# A partial update on a property of a document.
+# 
+# + operationType - Type of the patch operation
+# + path - Path of the property, such as `/address/city`
+# + value - The value to add, set or replace with, or the amount to increment by
+#         - Not used by `Remove` and `Move` operations.
+# + 'from - Path of the property to move. Required for `Move` operations.
+@display{label: "Patch Operation"}
+public type PatchOperation record {|
+    @display{label: "Operation Type"}
+    PatchOperationType operationType;
+    @display{label: "Path"}
+    string path;
+    @display{label: "Value"}
+    json value?;
+    @display{label: "From"}
+    string 'from?;
+|};
+
+# Options which can be passed when executing a bulk request.
+# 
+# + maxMicroBatchConcurrency - Number of micro batches which are sent concurrently to a partition key range
+#                            - Allowed values are between 1 and 5.
+# + initialMicroBatchSize - Number of operations in the first micro batch sent to a partition key range. The size of
+#                           later micro batches is adjusted based on the throttling of the container.
+# + throughputControlGroupName - Name of the throughput control group of the client which the requests belong to
+# + streamChunkSize - Number of operations read from an input stream before they are submitted for execution. Must be 
+#                     positive.
+@display{label: "Bulk Execution Options"}
+public type BulkExecutionOptions record {|
+    @display{label: "Max Micro Batch Concurrency"}
+    int maxMicroBatchConcurrency?;
+    @display{label: "Initial Micro Batch Size"}
+    int initialMicroBatchSize?;
+    @display{label: "Throughput Control Group Name"}
+    string throughputControlGroupName?;
+    @display{label: "Stream Chunk Size"}
+    int streamChunkSize = 1000;
+|};
+
+# Optional parameters which can be passed when executing a transactional batch.
+# 
+# + sessionToken - The token for use with session consistency
+@display{label: "Transactional Batch Options"}
+public type TransactionalBatchOptions record {|
+    @display{label: "Session Token"}
+    string sessionToken?;
+|};
+
 type Options RequestOptions|DocumentReplaceOptions|DocumentListOptions|ResourceReadOptions|
     ResourceQueryOptions|ResourceDeleteOptions;
 
@@ -586,13 +1063,14 @@ type Options RequestOptions|DocumentReplaceOptions|DocumentListOptions|ResourceR
 # + currentResourceQuotaUsage - Current size of this entity (in megabytes (MB) for server resources and in count for master resources)  
 # + maxResourceQuota - Maximum size limit for this entity (in megabytes (MB) for server resources and in count for master resources).  
 # + etag - ETag from the response headers
-# + responseHeaders - Headers associated with the response.
+# + responseHeaders - Headers associated with the response. Empty unless the response shape is `RESPONSE_FULL`.
 # + sessionToken - Token used for managing client's consistency requirements.  
 # + statusCode - HTTP status code associated with the response
 # + requestCharge - Request charge as request units (RU) consumed by the operation
 # + duration - End-to-end request latency for the current request to Azure Cosmos DB service 
-# + diagnostics - Diagnostics information for the current request to Azure Cosmos DB service  
-# + item - Field Description  
+# + diagnostics - Diagnostics information for the current request to Azure Cosmos DB service. Only returned if the 
+# response shape is `RESPONSE_FULL`.
+# + item - The document. Not returned if the response shape is `RESPONSE_MINIMAL`.
 public type DocumentResponse record {
     string activityId;
     string currentResourceQuotaUsage;
@@ -612,6 +1090,7 @@ public type DocumentResponse record {
 # + activityId -  Activity ID for the request 
 # + requestCharge - Request charge as request units (RU) consumed by the operation  
 # + responseAsString - Response of the stored procedure as a string  
+# + responseAsJson - Response of the stored procedure as a JSON value, if the response is JSON
 # + scriptLog - Output from stored procedure console.log() statements
 # + sessionToken - Token used for managing client's consistency requirements
 # + statusCode - HTTP status code associated with the response
@@ -619,16 +1098,79 @@ public type StoredProcedureResponse record {
     string activityId;
     float requestCharge;
     string? responseAsString?;
+    json responseAsJson?;
     string? scriptLog?;
     string sessionToken;
     int statusCode;
 };
 
+# Result of a bulk execution of a stored procedure.
+#
+# + processedCount - Number of documents processed by the stored procedure
+# + executionCount - Number of times the stored procedure was executed
+# + requestCharge - Request charge of all executions as request units (RU)
+# + sessionToken - Session token of the last execution
+public type StoredProcedureBulkResult record {|
+    int processedCount;
+    int executionCount;
+    float requestCharge;
+    string sessionToken?;
+|};
+
+# Result of an operation on a single document.
+#
+# + index - Position of the operation in the request
+# + operationType - Type of the operation
+# + id - ID of the document, if it is given in the operation
+# + statusCode - HTTP status code of the operation. `0` if no response was received for the operation.
+# + requestCharge - Request charge as request units (RU) consumed by the operation
+# + etag - ETag of the document
+# + item - The document returned by the operation
+# + errorMessage - The reason for the failure, if the operation could not be executed
+public type ItemOperationResult record {
+    int index;
+    ItemOperationType operationType;
+    string id?;
+    int statusCode;
+    float requestCharge;
+    string? etag?;
+    json? item?;
+    string errorMessage?;
+};
+
+# Transactional batch response.
+#
+# + activityId - Activity ID for the request
+# + statusCode - HTTP status code of the batch. If an operation fails, the status code of the failed operation.
+# + isSuccessStatusCode - Whether all operations of the batch succeeded
+# + requestCharge - Total request charge as request units (RU) consumed by the batch
+# + sessionToken - Token used for managing client's consistency requirements
+# + errorMessage - The reason for the failure of the batch
+# + duration - End-to-end request latency for the batch
+# + diagnostics - Diagnostics information for the batch
+# + results - Result of each operation, in the order of the operations in the batch
+public type TransactionalBatchResponse record {
+    string activityId;
+    int statusCode;
+    boolean isSuccessStatusCode;
+    float requestCharge;
+    string sessionToken;
+    string errorMessage?;
+    int duration;
+    Diagnostics diagnostics?;
+    ItemOperationResult[] results;
+};
+
 #  Diagnostic statistics associated with a request to Azure Cosmos DB.
 #
 # + regionsContacted - Regions contacted for this request  
+# + servingRegions - Names of the regions contacted by the request whose response is returned. Unless the request 
+#                    was retried in another region, this is the region which served the request.
+# + operationRegions - Names of the regions contacted by all requests of the operation, including hedged requests
 # + duration - Response Diagnostic String 
 public type Diagnostics record {
     string[] regionsContacted?;
+    string[] servingRegions?;
+    string[] operationRegions?;
     int duration;
 };
@@ -14,27 +14,11 @@
 // specific language governing permissions and limitations
 // under the License.
 
-import ballerina/crypto;
-import ballerina/url;
 import ballerina/http;
-import ballerina/jballerina.java;
-import ballerina/lang.array;
+import ballerina/lang.runtime;
 import ballerina/regex;
 import ballerina/time;
 
-# Extract the type of token used for accessing the Cosmos DB.
-# 
-# + token - The token provided by the user to access Cosmos DB
-# + return - A string value which represents the type of token
-isolated function getTokenType(string token) returns string {
-    boolean ifContain = token.includes(TOKEN_TYPE_RESOURCE);
-    if (ifContain) {
-        return TOKEN_TYPE_RESOURCE;
-    } else {
-        return TOKEN_TYPE_MASTER;
-    }
-}
-
 # Extract the host of the Cosmos DB from the base URL.
 # 
 # + url - The Base URL given by the user from which we want to extract host
@@ -122,60 +106,57 @@ isolated function prepareUrl(string[] paths) returns string {
 # 
 # + request - The http:Request to add headers to
 # + host - The host to which the request is sent
-# + token - Master or resource token
+# + signer - Signer of the requests of the client
 # + httpVerb - The HTTP verb of the request the headers are set to
 # + requestPath - Request path for the request
 # + return - If successful, request will be appended with headers. Else returns `Error`.
-isolated function setMandatoryHeaders(http:Request request, string host, string token, http:HttpOperation httpVerb, 
+isolated function setMandatoryHeaders(http:Request request, string host, handle signer, http:HttpOperation httpVerb, 
                                       string requestPath) returns Error? {
     request.setHeader(API_VERSION_HEADER, API_VERSION);
     request.setHeader(HOST_HEADER, host);
     request.setHeader(ACCEPT_HEADER, ACCEPT_ALL);
     request.setHeader(http:CONNECTION, CONNECTION_KEEP_ALIVE);
-    string tokenType = getTokenType(token);
-    string dateTime = check getDateTime();
-    request.setHeader(DATE_HEADER, dateTime);
-    string signature = EMPTY_STRING;
-    if (tokenType.toLowerAscii() == TOKEN_TYPE_MASTER) {
-        signature = check generatePrimaryKeySignature(httpVerb, getResourceType(requestPath), 
-            getResourceId(requestPath), token, tokenType, dateTime);
-    } else if (tokenType.toLowerAscii() == TOKEN_TYPE_RESOURCE) {
-        signature = check url:encode(token, UTF8_URL_ENCODING);
-    } else {
-        return error InputValidationError(NULL_RESOURCE_TYPE_ERROR);
-    }
-    request.setHeader(http:AUTH_HEADER, signature);
+    check signRequest(request, signer, httpVerb, requestPath);
 }
 
 # Attach mandatory basic headers to HTTP GET request.
 # 
 # + host - The host to which the request is sent
-# + token - Master or resource token
+# + signer - Signer of the requests of the client
 # + httpVerb - The HTTP verb of the request the headers are set to
 # + requestPath - Request path for the request
 # + return - If successful, request will be appended with headers. Else returns `Error`.
-isolated function setMandatoryGetHeaders(string host, string token, http:HttpOperation httpVerb, string requestPath) 
+isolated function setMandatoryGetHeaders(string host, handle signer, http:HttpOperation httpVerb, string requestPath) 
                                          returns map<string>|Error {
-    string tokenType = getTokenType(token);
-    string dateTime = check getDateTime();
-    string signature = EMPTY_STRING;
-    if (tokenType.toLowerAscii() == TOKEN_TYPE_MASTER) {
-        signature = check generatePrimaryKeySignature(httpVerb, getResourceType(requestPath), 
-            getResourceId(requestPath), token, tokenType, dateTime);
-    } else if (tokenType.toLowerAscii() == TOKEN_TYPE_RESOURCE) {
-        signature = check url:encode(token, UTF8_URL_ENCODING);
-    } else {
-        return error InputValidationError(NULL_RESOURCE_TYPE_ERROR);
-    }
-
-    return {
+    map<string> headerMap = {
         [API_VERSION_HEADER] : API_VERSION,
         [HOST_HEADER] : host,
         [ACCEPT_HEADER] : ACCEPT_ALL,
-        [http:CONNECTION] : CONNECTION_KEEP_ALIVE,
-        [DATE_HEADER] : dateTime,
-        [http:AUTH_HEADER] : signature
+        [http:CONNECTION] : CONNECTION_KEEP_ALIVE
     };
+    check signRequest(headerMap, signer, httpVerb, requestPath);
+    return headerMap;
+}
+
+# Set the date and the authorization headers of a request, which signs the request with the current date.
+# 
+# + message - The request, or the headers of a `GET` request
+# + signer - Signer of the requests of the client
+# + httpVerb - The HTTP verb of the request
+# + requestPath - Request path for the request
+# + return - If successful, the headers are set. Else returns `Error`.
+isolated function signRequest(http:Request|map<string> message, handle signer, http:HttpOperation httpVerb, 
+                              string requestPath) returns Error? {
+    string dateTime = getRequestDate();
+    string signature = check sign(signer, httpVerb, getResourceType(requestPath), getResourceId(requestPath), 
+        dateTime);
+    if (message is http:Request) {
+        message.setHeader(DATE_HEADER, dateTime);
+        message.setHeader(http:AUTH_HEADER, signature);
+    } else {
+        message[DATE_HEADER] = dateTime;
+        message[http:AUTH_HEADER] = signature;
+    }
 }
 
 # Set the optional header related to partitionkey value.
@@ -312,47 +293,6 @@ isolated function setExpiryHeader(http:Request request, int validityPeriodInSeco
     }
 }
 
-# Get the current time(GMT) in the specific format.
-#
-# + return - If successful, returns `string` representing UTC date and time 
-#            (in `HTTP-date` format as defined by RFC 1123 Date/Time Formats). Else returns `Error`.
-isolated function getDateTime() returns string|Error {
-    [int, decimal] & readonly currentTime = time:utcNow(); 
-    _ = check utcToString(currentTime, TIME_ZONE_FORMAT);
-    return check utcToString(currentTime, TIME_ZONE_FORMAT) + " GMT";
-}
-
-isolated function utcToString(time:Utc utc, string pattern) returns string|error {
-    [int, decimal][epochSeconds, lastSecondFraction] = utc;
-    int nanoAdjustments = (<int>lastSecondFraction * 1000000000);
-    var instant = ofEpochSecond(epochSeconds, nanoAdjustments);
-    var zoneId = getZoneId(java:fromString("Z"));
-    var zonedDateTime = atZone(instant, zoneId);
-    var dateTimeFormatter = ofPattern(java:fromString(pattern));
-    handle formatString = format(zonedDateTime, dateTimeFormatter);
-    return formatString.toBalString();
-}
-
-# To construct the hashed token signature for a token to set 'Authorization' header.
-# 
-# + verb - HTTP verb, such as GET, POST, or PUT
-# + resourceType - Identifies the type of resource that the request is for, Eg. `dbs`, `colls`, `docs`
-# + resourceId - Identity property of the resource that the request is directed at
-# + token - master or resource token
-# + tokenType - denotes the type of token: master or resource
-# + date - current GMT date and time
-# + return - If successful, returns `string` which is the hashed token signature. Else returns `Error`.
-isolated function generatePrimaryKeySignature(string verb, string resourceType, string resourceId, string token, 
-                                              string tokenType, string date) returns string|Error {
-    string payload = string `${verb.toLowerAscii()}${NEW_LINE}${resourceType.toLowerAscii()}${NEW_LINE}${resourceId}`
-        + string `${NEW_LINE}${date.toLowerAscii()}${NEW_LINE}${EMPTY_STRING}${NEW_LINE}`;
-    byte[] decodedArray = check array:fromBase64(token); 
-    byte[] digest = check crypto:hmacSha256(payload.toBytes(), decodedArray);
-    string signature = digest.toBase64();
-    string authorizationString = string `type=${tokenType}&ver=${TOKEN_VERSION}&sig=${signature}`;
-    return check url:encode(authorizationString, "UTF-8");
-}
-
 # Handle success or error responses to requests and extract the JSON payload.
 #
 # + httpResponse - The http:Response returned from an HTTP request
@@ -382,6 +322,120 @@ isolated function handleHeaderOnlyResponse(http:Response httpResponse) returns @
     }
 }
 
+# Send a request of the management client. A request which fails with a transient status code is retried as 
+# configured in the `cosmos_db:TransientRetryConfig` of the client, and the metrics of the request are recorded if it 
+# is sampled.
+#
+# + httpClient - Client which calls the Azure endpoint
+# + httpVerb - The HTTP verb of the request
+# + requestPath - Request path for the request
+# + message - The request, or the headers of a `GET` request
+# + settings - Settings of the management client
+# + return - If successful, returns `http:Response`. Else returns `error`.
+isolated function sendRequest(http:Client httpClient, http:HttpOperation httpVerb, string requestPath,
+                              http:Request|map<string> message, RequestSettings settings) returns http:Response|error {
+    boolean sampled = isSampled(settings.metricsSamplingRate);
+    int requestSize = 0;
+    if (sampled && message is http:Request) {
+        byte[]|error payload = message.getBinaryPayload();
+        requestSize = payload is byte[] ? payload.length() : 0;
+    }
+    TransientRetryConfig retryConfig = settings.retryConfig;
+    decimal startTime = time:monotonicNow();
+    decimal waitTime = 0;
+    // Queries are sent as `POST` requests too, but they do not create a resource and can be retried on any status code.
+    boolean isCreate = httpVerb == http:HTTP_POST && !(message is http:Request && message.hasHeader(ISQUERY_HEADER));
+    int[] statusCodes = isCreate ? retryConfig.createStatusCodes : retryConfig.statusCodes;
+    int attempts = 1;
+    error? signError = ();
+    http:Response|error response = executeRequest(httpClient, httpVerb, requestPath, message);
+    while (response is http:Response && attempts < retryConfig.maxAttempts
+            && statusCodes.indexOf(response.statusCode) is int) {
+        decimal backoff = getRetryBackoff(response, retryConfig, attempts);
+        if (waitTime + backoff > retryConfig.maxWaitTime) {
+            break;
+        }
+        runtime:sleep(backoff);
+        waitTime += backoff;
+        // The signature covers the date of the request, hence each attempt is signed again.
+        signError = signRequest(message, settings.signer, httpVerb, requestPath);
+        if (signError is error) {
+            break;
+        }
+        response = executeRequest(httpClient, httpVerb, requestPath, message);
+        attempts += 1;
+    }
+    if (sampled) {
+        recordRequest(httpVerb, requestPath, response, <float>(time:monotonicNow() - startTime), requestSize,
+            attempts - 1);
+    }
+    if (signError is error) {
+        return signError;
+    }
+    return response;
+}
+
+isolated function executeRequest(http:Client httpClient, http:HttpOperation httpVerb, string requestPath,
+                                 http:Request|map<string> message) returns http:Response|error {
+    if (message is map<string>) {
+        return httpClient->get(requestPath, message);
+    }
+    return httpClient->execute(httpVerb, requestPath, message);
+}
+
+# Get the time to wait before retrying a request which failed with a transient status code.
+#
+# + response - The response of the failed attempt
+# + retryConfig - Retry configuration of the client
+# + attempts - Number of attempts made so far
+# + return - The time to wait (in seconds)
+isolated function getRetryBackoff(http:Response response, TransientRetryConfig retryConfig, int attempts) 
+                                  returns decimal {
+    string|error retryAfterMillis = response.getHeader(RETRY_AFTER_MILLISECONDS);
+    int|error millis = retryAfterMillis is string ? int:fromString(retryAfterMillis) : retryAfterMillis;
+    if (millis is int && millis >= 0) {
+        return <decimal>millis / 1000;
+    }
+    string|error retryAfter = response.getHeader(RETRY_AFTER_HEADER);
+    int|error seconds = retryAfter is string ? int:fromString(retryAfter) : retryAfter;
+    if (seconds is int && seconds >= 0) {
+        return <decimal>seconds;
+    }
+    decimal backoff = retryConfig.initialBackoff * <decimal>float:pow(retryConfig.backoffFactor, <float>(attempts - 1));
+    backoff = decimal:min(backoff, retryConfig.maxBackoff);
+    // Half of the wait is random, so that the clients throttled together do not retry together.
+    return backoff / 2 + backoff / 2 * <decimal>random();
+}
+
+# Record the metrics of a request of the management client.
+#
+# + httpVerb - The HTTP verb of the request
+# + requestPath - Request path for the request
+# + response - The response of the request, or the error if no response was received
+# + latency - Duration of the request, including its retries (in seconds)
+# + requestSize - Size of the request payload (in bytes)
+# + retries - Number of times the request was retried
+isolated function recordRequest(http:HttpOperation httpVerb, string requestPath, http:Response|error response,
+                                float latency, int requestSize, int retries) {
+    string[] urlParts = regex:split(requestPath, FORWARD_SLASH);
+    string? databaseId = urlParts.length() > 2 && urlParts[1] == RESOURCE_TYPE_DATABASES ? urlParts[2] : ();
+    string? containerId = urlParts.length() > 4 && urlParts[3] == RESOURCE_TYPE_COLLECTIONS ? urlParts[4] : ();
+    int statusCode = 0;
+    float requestCharge = 0.0;
+    int responseSize = 0;
+    if (response is http:Response) {
+        statusCode = response.statusCode;
+        string|error charge = response.getHeader(REQUEST_CHARGE_HEADER);
+        float|error chargeValue = charge is string ? float:fromString(charge) : charge;
+        requestCharge = chargeValue is float ? chargeValue : 0.0;
+        string|error contentLength = response.getHeader(CONTENT_LENGTH_HEADER);
+        int|error length = contentLength is string ? int:fromString(contentLength) : contentLength;
+        responseSize = length is int ? length : 0;
+    }
+    recordManagementOperation(httpVerb, getResourceType(requestPath), databaseId, containerId, statusCode, latency,
+        requestCharge, retries, requestSize, responseSize);
+}
+
 // This is the older version of the stram implementation
 // # Get a stream of JSON documents which is returned as query results.
 // # 
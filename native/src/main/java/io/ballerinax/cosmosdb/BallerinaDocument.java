@@ -0,0 +1,216 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerinax.cosmosdb;
+
+import com.fasterxml.jackson.core.JsonGenerationException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+
+/**
+ * A Ballerina JSON value passed to and received from the Cosmos DB SDK as an item.
+ * <p>
+ * The SDK writes items with its own Jackson object mapper. The serializer of this class streams the Ballerina value
+ * straight into the request payload, so a document is not converted to a string or an intermediate Java tree before
+ * it is sent. Items returned by the SDK are read back into Ballerina JSON values in the same way.
+ */
+@JsonSerialize(using = BallerinaDocument.Serializer.class)
+@JsonDeserialize(using = BallerinaDocument.Deserializer.class)
+public class BallerinaDocument {
+
+    private static final MapType JSON_MAP_TYPE = TypeCreator.createMapType(PredefinedTypes.TYPE_JSON);
+    private static final ArrayType JSON_ARRAY_TYPE = TypeCreator.createArrayType(PredefinedTypes.TYPE_JSON);
+
+    private final Object value;
+    private final String id;
+
+    BallerinaDocument(Object value) {
+        this(value, null);
+    }
+
+    /**
+     * Creates a document which is written with the given ID if the value does not contain an `id` field.
+     *
+     * @param value Ballerina JSON value of the document
+     * @param id    ID of the document
+     */
+    BallerinaDocument(Object value, String id) {
+        this.value = value;
+        this.id = id;
+    }
+
+    Object getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the ID with which the document is written.
+     *
+     * @return The `id` field of the value, or else the given ID, or `null` if neither is set
+     */
+    String getDocumentId() {
+        if (value instanceof BMap && ((BMap<?, ?>) value).containsKey(Constants.ID)) {
+            Object documentId = ((BMap<?, ?>) value).get(Constants.ID);
+            return documentId == null ? null : documentId.toString();
+        }
+        return id;
+    }
+
+    /**
+     * Converts a Ballerina JSON value to a value the SDK can serialize, such as a patch value or a query parameter.
+     *
+     * @param value A Ballerina JSON value
+     * @return The Java value, or a `BallerinaDocument` wrapping a map or an array
+     */
+    static Object toSdkValue(Object value) {
+        if (value instanceof BString) {
+            return ((BString) value).getValue();
+        } else if (value instanceof BDecimal) {
+            return ((BDecimal) value).decimalValue();
+        } else if (value instanceof BMap || value instanceof BArray) {
+            return new BallerinaDocument(value);
+        }
+        return value;
+    }
+
+    /**
+     * Writes a Ballerina JSON value to a Jackson generator.
+     */
+    public static class Serializer extends JsonSerializer<BallerinaDocument> {
+
+        @Override
+        public void serialize(BallerinaDocument document, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            if (document.id != null && document.value instanceof BMap &&
+                    !((BMap<?, ?>) document.value).containsKey(Constants.ID)) {
+                generator.writeStartObject();
+                generator.writeStringField("id", document.id);
+                writeFields(generator, (BMap<?, ?>) document.value);
+                generator.writeEndObject();
+            } else {
+                writeValue(generator, document.value);
+            }
+        }
+
+        private static void writeValue(JsonGenerator generator, Object value) throws IOException {
+            if (value == null) {
+                generator.writeNull();
+            } else if (value instanceof BString) {
+                generator.writeString(((BString) value).getValue());
+            } else if (value instanceof Long || value instanceof Integer) {
+                generator.writeNumber(((Number) value).longValue());
+            } else if (value instanceof Double) {
+                generator.writeNumber((Double) value);
+            } else if (value instanceof BDecimal) {
+                generator.writeNumber(((BDecimal) value).decimalValue());
+            } else if (value instanceof Boolean) {
+                generator.writeBoolean((Boolean) value);
+            } else if (value instanceof BMap) {
+                generator.writeStartObject();
+                writeFields(generator, (BMap<?, ?>) value);
+                generator.writeEndObject();
+            } else if (value instanceof BArray) {
+                BArray array = (BArray) value;
+                int size = array.size();
+                generator.writeStartArray();
+                for (int i = 0; i < size; i++) {
+                    writeValue(generator, array.get(i));
+                }
+                generator.writeEndArray();
+            } else {
+                throw new JsonGenerationException("Unsupported document value of type " +
+                        value.getClass().getName(), generator);
+            }
+        }
+
+        private static void writeFields(JsonGenerator generator, BMap<?, ?> map) throws IOException {
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                generator.writeFieldName(entry.getKey().toString());
+                writeValue(generator, entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Reads a Ballerina JSON value from a Jackson parser.
+     */
+    public static class Deserializer extends JsonDeserializer<BallerinaDocument> {
+
+        @Override
+        public BallerinaDocument deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return new BallerinaDocument(readValue(parser, context));
+        }
+
+        private static Object readValue(JsonParser parser, DeserializationContext context) throws IOException {
+            switch (parser.currentToken()) {
+                case START_OBJECT:
+                    BMap<BString, Object> map = ValueCreator.createMapValue(JSON_MAP_TYPE);
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        BString key = fromString(parser.getCurrentName());
+                        parser.nextToken();
+                        map.put(key, readValue(parser, context));
+                    }
+                    return map;
+                case START_ARRAY:
+                    BArray array = ValueCreator.createArrayValue(JSON_ARRAY_TYPE);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        array.append(readValue(parser, context));
+                    }
+                    return array;
+                case VALUE_STRING:
+                    return fromString(parser.getText());
+                case VALUE_NUMBER_INT:
+                    if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+                        return ValueCreator.createDecimalValue(parser.getDecimalValue());
+                    }
+                    return parser.getLongValue();
+                case VALUE_NUMBER_FLOAT:
+                    return ValueCreator.createDecimalValue(parser.getDecimalValue());
+                case VALUE_TRUE:
+                    return Boolean.TRUE;
+                case VALUE_FALSE:
+                    return Boolean.FALSE;
+                case VALUE_NULL:
+                    return null;
+                default:
+                    return context.handleUnexpectedToken(BallerinaDocument.class, parser);
+            }
+        }
+    }
+}
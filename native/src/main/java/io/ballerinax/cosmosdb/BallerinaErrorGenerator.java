@@ -27,7 +27,7 @@ import io.ballerina.runtime.api.values.BError;
  */
 public class BallerinaErrorGenerator {
 
-    public static BError createBallerinaDatabaseError(Exception e) {
+    public static BError createBallerinaDatabaseError(Throwable e) {
         return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
     }
 }
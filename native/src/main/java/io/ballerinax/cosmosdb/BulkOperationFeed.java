@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerinax.cosmosdb;
+
+import com.azure.cosmos.models.CosmosItemOperation;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Feeds the operations read from a Ballerina stream to a single bulk execution. The operations are submitted in
+ * chunks while the results of the earlier chunks are consumed, so that the bulk executor keeps its pipeline busy for
+ * the whole input instead of draining it after each chunk.
+ */
+public final class BulkOperationFeed {
+
+    private final Sinks.Many<CosmosItemOperation> operations = Sinks.many().unicast().onBackpressureBuffer();
+    private Object results;
+
+    /**
+     * Returns the operations submitted to the feed, which the bulk execution consumes.
+     *
+     * @return The operations
+     */
+    Flux<CosmosItemOperation> getOperations() {
+        return operations.asFlux();
+    }
+
+    void setResults(Object results) {
+        this.results = results;
+    }
+
+    /**
+     * Returns the stream of the results of the bulk execution.
+     *
+     * @return The `stream<cosmos_db:ItemOperationResult, error?>` value
+     */
+    Object getResults() {
+        return results;
+    }
+
+    /**
+     * Submits a chunk of operations.
+     *
+     * @param itemOperations The `cosmos_db:ItemOperation` records
+     * @param startIndex     Index of the first operation of the chunk within the input stream
+     */
+    void submit(BArray itemOperations, long startIndex) {
+        int size = itemOperations.size();
+        for (int i = 0; i < size; i++) {
+            Sinks.EmitResult result = operations.tryEmitNext(ItemOperations.createBulkOperation(
+                    (BMap<BString, Object>) itemOperations.get(i), startIndex + i));
+            if (result.isFailure()) {
+                throw new IllegalStateException("Bulk operations cannot be submitted: " + result);
+            }
+        }
+    }
+
+    /**
+     * Signals that no more operations are submitted, so that the bulk execution completes once the submitted
+     * operations complete. Has no effect if the feed is already completed.
+     */
+    void complete() {
+        operations.tryEmitComplete();
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerinax.cosmosdb;
+
+import com.azure.cosmos.CosmosAsyncClient;
+import com.azure.cosmos.CosmosAsyncContainer;
+import com.azure.cosmos.CosmosEndToEndOperationLatencyPolicyConfig;
+import io.ballerina.runtime.api.values.BString;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Holds the native state of a single `DataPlaneClient` object. It is attached to the Ballerina client as native data.
+ */
+public class ClientContext {
+
+    private final String registryKey;
+    private final CosmosAsyncClient cosmosClient;
+    private final DocumentCache documentCache;
+    private final Object warmUpStatistics;
+    private final String responseShape;
+    private final CosmosEndToEndOperationLatencyPolicyConfig readLatencyPolicy;
+    private final CosmosEndToEndOperationLatencyPolicyConfig queryLatencyPolicy;
+    private final SessionTokenManager sessionTokenManager;
+    private final ResultCursor.Prefetch resultPrefetch;
+    private final double metricsSamplingRate;
+    private final Map<BString, Map<BString, CosmosAsyncContainer>> containers = new ConcurrentHashMap<>();
+    private final Map<CosmosAsyncContainer, Mono<String>> partitionKeyPaths = new ConcurrentHashMap<>();
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    ClientContext(String registryKey, CosmosAsyncClient cosmosClient, DocumentCache documentCache,
+                  Object warmUpStatistics, String responseShape,
+                  CosmosEndToEndOperationLatencyPolicyConfig readLatencyPolicy,
+                  CosmosEndToEndOperationLatencyPolicyConfig queryLatencyPolicy,
+                  SessionTokenManager sessionTokenManager, ResultCursor.Prefetch resultPrefetch,
+                  double metricsSamplingRate) {
+        this.registryKey = registryKey;
+        this.cosmosClient = cosmosClient;
+        this.documentCache = documentCache;
+        this.warmUpStatistics = warmUpStatistics;
+        this.responseShape = responseShape;
+        this.readLatencyPolicy = readLatencyPolicy;
+        this.queryLatencyPolicy = queryLatencyPolicy;
+        this.sessionTokenManager = sessionTokenManager;
+        this.resultPrefetch = resultPrefetch;
+        this.metricsSamplingRate = metricsSamplingRate;
+    }
+
+    CosmosAsyncClient getCosmosClient() {
+        if (closed.get()) {
+            throw new IllegalStateException("The client has already been closed");
+        }
+        return cosmosClient;
+    }
+
+    /**
+     * Returns the handle of a container. Handles are created once per database and container ID, and reused by the
+     * later operations on the container.
+     *
+     * @param databaseId  ID of the database
+     * @param containerId ID of the container
+     * @return The container handle
+     */
+    CosmosAsyncContainer getContainer(BString databaseId, BString containerId) {
+        CosmosAsyncClient client = getCosmosClient();
+        Map<BString, CosmosAsyncContainer> databaseContainers = containers.get(databaseId);
+        if (databaseContainers == null) {
+            databaseContainers = containers.computeIfAbsent(databaseId, key -> new ConcurrentHashMap<>());
+        }
+        CosmosAsyncContainer container = databaseContainers.get(containerId);
+        if (container == null) {
+            container = databaseContainers.computeIfAbsent(containerId,
+                    key -> client.getDatabase(databaseId.getValue()).getContainer(containerId.getValue()));
+        }
+        return container;
+    }
+
+    /**
+     * Returns the partition key path of a container. The path is read with the first request which needs it, and
+     * reused by the later requests. A failed read is not kept, so that the next request reads the path again.
+     *
+     * @param container Container handle returned by {@link #getContainer(BString, BString)}
+     * @return The partition key path, such as `/AccountNumber`
+     */
+    Mono<String> getPartitionKeyPath(CosmosAsyncContainer container) {
+        return partitionKeyPaths.computeIfAbsent(container, key -> container.read()
+                .map(response -> response.getProperties().getPartitionKeyDefinition().getPaths().get(0))
+                .cache(path -> Duration.ofMillis(Long.MAX_VALUE), error -> Duration.ZERO, () -> Duration.ZERO));
+    }
+
+    /**
+     * Returns the document cache of the client.
+     *
+     * @return The document cache, or `null` if the client does not cache documents
+     */
+    DocumentCache getDocumentCache() {
+        return documentCache;
+    }
+
+    /**
+     * Returns the statistics of the warm-up done when the client was initialized.
+     *
+     * @return The `cosmosdb:WarmUpStatistics` record, or `null` if the client is not warmed up
+     */
+    Object getWarmUpStatistics() {
+        return warmUpStatistics;
+    }
+
+    /**
+     * Returns the shape of the document responses of the client, which a request can override.
+     *
+     * @return The `cosmosdb:ResponseShape` value
+     */
+    String getResponseShape() {
+        return responseShape;
+    }
+
+    /**
+     * Returns the end-to-end latency policy of the point reads of the client, which carries its availability strategy.
+     *
+     * @return The policy, or `null` if point reads are not hedged
+     */
+    CosmosEndToEndOperationLatencyPolicyConfig getReadLatencyPolicy() {
+        return readLatencyPolicy;
+    }
+
+    /**
+     * Returns the end-to-end latency policy of the queries of the client, which carries its availability strategy.
+     *
+     * @return The policy, or `null` if queries are not hedged
+     */
+    CosmosEndToEndOperationLatencyPolicyConfig getQueryLatencyPolicy() {
+        return queryLatencyPolicy;
+    }
+
+    /**
+     * Returns the session token manager of the client.
+     *
+     * @return The manager, or `null` if the client does not manage session tokens
+     */
+    SessionTokenManager getSessionTokenManager() {
+        return sessionTokenManager;
+    }
+
+    /**
+     * Returns the limits of the results which the streams of the client fetch ahead of their consumers.
+     *
+     * @return The limits, or `null` if the streams fetch a page only when their consumers need it
+     */
+    ResultCursor.Prefetch getResultPrefetch() {
+        return resultPrefetch;
+    }
+
+    /**
+     * Returns the fraction of the operations of the client whose metrics are recorded.
+     *
+     * @return The sampling rate of the `cosmosdb:MetricsConfig` of the client, or 0 if it has none
+     */
+    double getMetricsSamplingRate() {
+        return metricsSamplingRate;
+    }
+
+    /**
+     * Releases the shared Cosmos DB client. Closing a client more than once has no effect.
+     */
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            ClientRegistry.release(registryKey);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerinax.cosmosdb;
+
+import com.azure.cosmos.CosmosAsyncClient;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Keeps track of the Cosmos DB clients used by the dataplane clients of the process.
+ * <p>
+ * Dataplane clients created with the same endpoint, key and client configuration share one underlying
+ * {@link CosmosAsyncClient}, and hence its connection pools and address caches. The shared client is reference
+ * counted and closed only when the last dataplane client using it is closed.
+ * <p>
+ * The registry lock only guards the reference counts. A client is built, and closed, outside of it, so that a slow
+ * build, such as one which warms up the connections, holds up only the dataplane clients of the same key.
+ */
+public final class ClientRegistry {
+
+    private static final Map<String, SharedClient> CLIENTS = new HashMap<>();
+
+    private ClientRegistry() {
+    }
+
+    /**
+     * Returns the client registered for the given key, creating it with the given factory if no client is registered.
+     * If another caller is creating the client of the key, waits for it instead.
+     *
+     * @param key           Key which identifies the endpoint, key and configuration of the client
+     * @param clientFactory Factory which creates a new client
+     * @return The shared client
+     */
+    static CosmosAsyncClient acquire(String key, Supplier<CosmosAsyncClient> clientFactory) {
+        SharedClient sharedClient;
+        boolean creator = false;
+        synchronized (CLIENTS) {
+            sharedClient = CLIENTS.get(key);
+            if (sharedClient == null) {
+                sharedClient = new SharedClient();
+                CLIENTS.put(key, sharedClient);
+                creator = true;
+            }
+            sharedClient.references++;
+        }
+        if (creator) {
+            try {
+                sharedClient.client.complete(clientFactory.get());
+            } catch (RuntimeException e) {
+                // The callers waiting for the client fail along with the creator, and hold no reference.
+                synchronized (CLIENTS) {
+                    CLIENTS.remove(key, sharedClient);
+                }
+                sharedClient.client.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return sharedClient.client.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Releases a reference to the client registered for the given key and closes the client if it is no longer used.
+     *
+     * @param key Key which identifies the endpoint, key and configuration of the client
+     */
+    static void release(String key) {
+        SharedClient sharedClient;
+        synchronized (CLIENTS) {
+            sharedClient = CLIENTS.get(key);
+            if (sharedClient == null) {
+                return;
+            }
+            sharedClient.references--;
+            if (sharedClient.references > 0) {
+                return;
+            }
+            CLIENTS.remove(key);
+        }
+        // A reference is released only after the client was acquired, hence the client is built.
+        sharedClient.client.join().close();
+    }
+
+    /**
+     * Creates the registry key of a client. The key is hashed, so that it is not retained in plain text.
+     *
+     * @param endpoint Base URL of the Cosmos DB account
+     * @param token    Primary key or resource token
+     * @param configs  Configurations which are applied when the client is built
+     * @return The registry key
+     */
+    static String createKey(String endpoint, String token, Object... configs) {
+        StringBuilder config = new StringBuilder();
+        for (Object clientConfig : configs) {
+            config.append('|').append(clientConfig == null ? "" : clientConfig.toString());
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return endpoint + "|" + Base64.getEncoder().encodeToString(hash) + config;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class SharedClient {
+
+        private final CompletableFuture<CosmosAsyncClient> client = new CompletableFuture<>();
+        private int references;
+    }
+}
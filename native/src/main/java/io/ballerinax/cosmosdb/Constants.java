@@ -54,6 +54,19 @@ public class Constants {
     public static final BString USER_AGENT_SUFFIX = fromString("userAgentSuffix");
     public static final BString PREFERRED_REGIONS = fromString("preferredRegions");
     public static final BString CONTENT_RESPONSE_ON_WRITE_ENABLED = fromString("contentResponseOnWriteEnabled");
+    public static final BString WARM_UP = fromString("warmUp");
+    public static final BString CONTAINERS = fromString("containers");
+    public static final BString DATABASE_ID = fromString("databaseId");
+    public static final BString CONTAINER_ID = fromString("containerId");
+    public static final BString PROACTIVE_CONNECTION_REGIONS_COUNT = fromString("proactiveConnectionRegionsCount");
+    public static final BString AGGRESSIVE_WARMUP_DURATION = fromString("aggressiveWarmupDuration");
+    public static final BString AVAILABILITY_STRATEGY = fromString("availabilityStrategy");
+    public static final BString THRESHOLD = fromString("threshold");
+    public static final BString THRESHOLD_STEP = fromString("thresholdStep");
+    public static final BString END_TO_END_TIMEOUT = fromString("endToEndTimeout");
+    public static final BString OPERATIONS = fromString("operations");
+    public static final String HEDGED_READ = "Read";
+    public static final String HEDGED_QUERY = "Query";
 
     public static final BString INDEXING_DIRECTIVE = fromString("indexingDirective");
     public static final String INCLUDE = "Include";
@@ -61,11 +74,17 @@ public class Constants {
     public static final BString DEDICATED_GATEWAY_REQUEST_OPTIONS = fromString("dedicatedGatewayRequestOptions");
     public static final BString IF_MATCH_ETAG = fromString("ifMatchETag");
     public static final BString IF_NONE_MATCH_ETAG = fromString("ifNoneMatchETag");
+    public static final BString FILTER_PREDICATE = fromString("filterPredicate");
     public static final BString POST_TRIGGER_INCLUDE = fromString("postTriggerInclude");
     public static final BString PRE_TRIGGER_INCLUDE = fromString("preTriggerInclude");
     public static final BString SESSION_TOKEN = fromString("sessionToken");
-    public static final BString THRESHOLD_FOR_DIAGNOSTICS = fromString("throughputControlGroupName");
+    public static final BString THRESHOLD_FOR_DIAGNOSTICS = fromString("thresholdForDiagnosticsOnTracer");
     public static final BString THROUHPUT_CONTROL = fromString("throughputControlGroupName");
+    public static final BString START_FROM = fromString("startFrom");
+    public static final BString POINT_IN_TIME = fromString("pointInTime");
+    public static final BString CONTINUATION_TOKEN = fromString("continuationToken");
+    public static final BString FEED_RANGE = fromString("feedRange");
+    public static final BString MAX_ITEM_COUNT = fromString("maxItemCount");
 
     public static final BString INDEX_METRICS_ENABLED = fromString("indexMetricsEnabled");
     public static final BString MAX_BUFFERED_ITEM_COUNT = fromString("maxBufferedItemCount");
@@ -79,15 +98,84 @@ public class Constants {
     public static final BString MAX_INTEGRATED_CACHE_STALENESS = fromString("maxIntegratedCacheStaleness");
     public static final BString SP_PROCEDURE_REQUEST_OPTIONS = fromString("cosmosStoredProcedureRequestOptions");
     public static final BString PARAMETERS = fromString("parameters");
+    public static final BString MAX_CHUNK_SIZE = fromString("maxChunkSize");
+    public static final BString QUERY = fromString("query");
+    public static final BString DOCUMENT_CACHE = fromString("documentCache");
+    public static final BString MAX_ENTRIES = fromString("maxEntries");
+    public static final BString TIME_TO_LIVE = fromString("timeToLive");
+    public static final BString RESPONSE_SHAPE = fromString("responseShape");
+    public static final String RESPONSE_SHAPE_MINIMAL = "Minimal";
+    public static final String RESPONSE_SHAPE_STANDARD = "Standard";
+    public static final String RESPONSE_SHAPE_FULL = "Full";
+    public static final BString MANAGE_SESSION_TOKENS = fromString("manageSessionTokens");
+    public static final BString RESULT_PREFETCH = fromString("resultPrefetch");
+    public static final BString MAX_PAGES = fromString("maxPages");
+    public static final BString MAX_ITEMS = fromString("maxItems");
+    public static final String QUERY_DOCUMENTS = "queryDocuments";
+    public static final String QUERY_DOCUMENTS_IN_PARALLEL = "queryDocumentsInParallel";
+    public static final String GET_DOCUMENT_LIST = "getDocumentList";
+    public static final String LIST_STORED_PROCEDURES = "listStoredProcedures";
+    public static final String QUERY_CHANGE_FEED = "queryChangeFeed";
+    public static final BString MAX_CONCURRENCY = fromString("maxConcurrency");
+    public static final BString QUERY_OPTIONS = fromString("queryOptions");
+    public static final BString METRICS = fromString("metrics");
+    public static final BString SAMPLING_RATE = fromString("samplingRate");
+    public static final BString MICROMETER_ENABLED = fromString("micrometerEnabled");
+    public static final BString THROUGHPUT_CONTROL_GROUPS = fromString("throughputControlGroups");
+    public static final BString GROUP_NAME = fromString("groupName");
+    public static final BString TARGET_THROUGHPUT = fromString("targetThroughput");
+    public static final BString TARGET_THROUGHPUT_THRESHOLD = fromString("targetThroughputThreshold");
+    public static final BString PRIORITY = fromString("priority");
+    public static final BString IS_DEFAULT = fromString("isDefault");
+    public static final BString GLOBAL = fromString("global");
+    public static final BString CONTROL_ITEM_RENEW_INTERVAL = fromString("controlItemRenewInterval");
+    public static final BString CONTROL_ITEM_EXPIRE_INTERVAL = fromString("controlItemExpireInterval");
+    public static final String PRIORITY_BACKGROUND = "Background";
     public static final BString SCRIPT_LOGGING_ENABLED = fromString("scriptLoggingEnabled");
 
+    public static final BString OPERATION_TYPE = fromString("operationType");
+    public static final BString ID = fromString("id");
+    public static final BString DOCUMENT = fromString("document");
+    public static final BString ITEM_PARTITION_KEY = fromString("partitionKey");
+    public static final BString PATCH_OPERATIONS = fromString("patchOperations");
+    public static final String CREATE_OPERATION = "Create";
+    public static final String UPSERT_OPERATION = "Upsert";
+    public static final String REPLACE_OPERATION = "Replace";
+    public static final String DELETE_OPERATION = "Delete";
+    public static final String READ_OPERATION = "Read";
+    public static final String PATCH_OPERATION = "Patch";
+
+    public static final BString PATH = fromString("path");
+    public static final BString VALUE = fromString("value");
+    public static final BString FROM = fromString("from");
+    public static final String PATCH_ADD = "Add";
+    public static final String PATCH_SET = "Set";
+    public static final String PATCH_REPLACE = "Replace";
+    public static final String PATCH_REMOVE = "Remove";
+    public static final String PATCH_INCREMENT = "Increment";
+    public static final String PATCH_MOVE = "Move";
+    public static final String START_FROM_BEGINNING = "Beginning";
+    public static final String START_FROM_NOW = "Now";
+    public static final String START_FROM_POINT_IN_TIME = "PointInTime";
+
+    public static final BString MAX_MICRO_BATCH_CONCURRENCY = fromString("maxMicroBatchConcurrency");
+    public static final BString INITIAL_MICRO_BATCH_SIZE = fromString("initialMicroBatchSize");
+
     public static final String RESULT_ITERATOR_OBJECT = "ResultIterator";
     public static final String COSMOS_RESULT_ITERATOR_OBJECT = "CosmosResultIterator";
     public static final String RECORD_TYPE = "recordType";
-    public static final String OBJECT_ITERATOR = "ObjectIterator";
+    public static final String RESULT_CURSOR = "ResultCursor";
+    public static final String CLIENT_CONTEXT = "ClientContext";
     public static final String STORED_PROCEDURE = "StoredProcedure";
     public static final String DIAGNOSTICS = "Diagnostics";
     public static final String DOCUMENT_RESPONSE = "DocumentResponse";
     public static final String STORED_PROCEDURE_RESPONSE = "StoredProcedureResponse";
+    public static final String STORED_PROCEDURE_BULK_RESULT = "StoredProcedureBulkResult";
+    public static final String ITEM_OPERATION_RESULT = "ItemOperationResult";
+    public static final String TRANSACTIONAL_BATCH_RESPONSE = "TransactionalBatchResponse";
+    public static final String RESULTS = "results";
+    public static final String ITEMS = "items";
+    public static final String DOCUMENT_CACHE_STATISTICS = "DocumentCacheStatistics";
+    public static final String WARM_UP_STATISTICS = "WarmUpStatistics";
 
 }
@@ -18,41 +18,85 @@
 
 package io.ballerinax.cosmosdb;
 
-import com.azure.cosmos.CosmosClient;
+import com.azure.cosmos.CosmosAsyncClient;
+import com.azure.cosmos.CosmosAsyncContainer;
 import com.azure.cosmos.CosmosClientBuilder;
-import com.azure.cosmos.CosmosContainer;
-import com.azure.cosmos.CosmosDatabase;
+import com.azure.cosmos.CosmosEndToEndOperationLatencyPolicyConfig;
+import com.azure.cosmos.models.CosmosBatch;
+import com.azure.cosmos.models.CosmosBatchResponse;
+import com.azure.cosmos.models.CosmosBulkOperationResponse;
+import com.azure.cosmos.models.CosmosItemOperation;
+import com.azure.cosmos.models.CosmosItemOperationType;
+import com.azure.cosmos.models.CosmosItemRequestOptions;
 import com.azure.cosmos.models.CosmosItemResponse;
 import com.azure.cosmos.models.CosmosQueryRequestOptions;
 import com.azure.cosmos.models.CosmosStoredProcedureProperties;
 import com.azure.cosmos.models.CosmosStoredProcedureRequestOptions;
 import com.azure.cosmos.models.CosmosStoredProcedureResponse;
-import com.azure.cosmos.util.CosmosPagedIterable;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.azure.cosmos.models.FeedRange;
+import com.azure.cosmos.models.FeedResponse;
+import com.azure.cosmos.models.PartitionKey;
+import com.azure.cosmos.models.SqlQuerySpec;
+import com.azure.cosmos.util.CosmosPagedFlux;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
 import io.ballerina.runtime.api.PredefinedTypes;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.runtime.api.values.BValue;
-import org.ballerinalang.langlib.value.FromJsonStringWithType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.util.Iterator;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
-import static io.ballerina.runtime.api.utils.StringUtils.fromString;
 import static io.ballerinax.cosmosdb.Constants.BASEURL;
+import static io.ballerinax.cosmosdb.Constants.CLIENT_CONTEXT;
+import static io.ballerinax.cosmosdb.Constants.CONTENT_RESPONSE_ON_WRITE_ENABLED;
 import static io.ballerinax.cosmosdb.Constants.COSMOS_RESULT_ITERATOR_OBJECT;
+import static io.ballerinax.cosmosdb.Constants.DOCUMENT_CACHE;
+import static io.ballerinax.cosmosdb.Constants.GET_DOCUMENT_LIST;
+import static io.ballerinax.cosmosdb.Constants.HEDGED_QUERY;
+import static io.ballerinax.cosmosdb.Constants.HEDGED_READ;
+import static io.ballerinax.cosmosdb.Constants.ID;
+import static io.ballerinax.cosmosdb.Constants.ITEM_OPERATION_RESULT;
+import static io.ballerinax.cosmosdb.Constants.LIST_STORED_PROCEDURES;
+import static io.ballerinax.cosmosdb.Constants.MANAGE_SESSION_TOKENS;
+import static io.ballerinax.cosmosdb.Constants.MAX_CONCURRENCY;
+import static io.ballerinax.cosmosdb.Constants.MAX_ENTRIES;
+import static io.ballerinax.cosmosdb.Constants.MAX_ITEMS;
+import static io.ballerinax.cosmosdb.Constants.MAX_PAGES;
+import static io.ballerinax.cosmosdb.Constants.METRICS;
+import static io.ballerinax.cosmosdb.Constants.QUERY_CHANGE_FEED;
+import static io.ballerinax.cosmosdb.Constants.QUERY_DOCUMENTS;
+import static io.ballerinax.cosmosdb.Constants.QUERY_DOCUMENTS_IN_PARALLEL;
+import static io.ballerinax.cosmosdb.Constants.QUERY_OPTIONS;
+import static io.ballerinax.cosmosdb.Constants.RESPONSE_SHAPE;
+import static io.ballerinax.cosmosdb.Constants.RESPONSE_SHAPE_FULL;
+import static io.ballerinax.cosmosdb.Constants.RESPONSE_SHAPE_MINIMAL;
+import static io.ballerinax.cosmosdb.Constants.RESULT_PREFETCH;
+import static io.ballerinax.cosmosdb.Constants.SAMPLING_RATE;
 import static io.ballerinax.cosmosdb.Constants.STORED_PROCEDURE;
+import static io.ballerinax.cosmosdb.Constants.THROUGHPUT_CONTROL_GROUPS;
+import static io.ballerinax.cosmosdb.Constants.TIME_TO_LIVE;
 import static io.ballerinax.cosmosdb.Constants.TOKEN;
-import static io.ballerinax.cosmosdb.Utils.createDocumentResponse;
 import static io.ballerinax.cosmosdb.Utils.createPartitionKey;
+import static io.ballerinax.cosmosdb.Utils.createPatchRequestOptions;
+import static io.ballerinax.cosmosdb.Utils.createQuerySpec;
 import static io.ballerinax.cosmosdb.Utils.createRequestOptions;
-import static io.ballerinax.cosmosdb.Utils.createStoredProcedureMap;
+import static io.ballerinax.cosmosdb.Utils.setBatchRequestOptions;
+import static io.ballerinax.cosmosdb.Utils.setBulkExecutionOptions;
+import static io.ballerinax.cosmosdb.Utils.setChangeFeedOptions;
 import static io.ballerinax.cosmosdb.Utils.setExecuteStoredProcedureRequestOptions;
 import static io.ballerinax.cosmosdb.Utils.setProcedureParams;
 import static io.ballerinax.cosmosdb.Utils.setQueryOptions;
@@ -60,85 +104,236 @@ import static io.ballerinax.cosmosdb.Utils.setStoredProcedureRequestOptions;
 
 /**
  * The class provides dataplane operations for Azure CosmosDB interactions.
+ * <p>
+ * Operations run on the asynchronous Cosmos DB client. Each native method suspends the calling strand through the
+ * {@link Environment} and resumes it once the reactive call signals a result, so no scheduler thread is held for the
+ * duration of a network round trip.
  */
 public class DataplaneClient {
 
-    private static CosmosClientBuilder cosmosClientBuilder;
-    private static CosmosClient cosmosClient;
-    private static ObjectMapper objectMapper = new ObjectMapper();
+    private static final int BULK_RESULT_PAGE_SIZE = 100;
+    private static final Duration BULK_RESULT_PAGE_TIMEOUT = Duration.ofMillis(50);
 
     public static Object initClient(Environment env, BObject client, BMap<BString, BValue> config,
                                     Object customConfig) {
         String baseUrl = config.containsKey(BASEURL) ? config.getStringValue(BASEURL).getValue() : "";
         String token = config.containsKey(TOKEN) ? config.getStringValue(TOKEN).getValue() : "";
-        cosmosClientBuilder = new CosmosClientBuilder();
         try {
-            cosmosClientBuilder.endpoint(baseUrl).key(token);
-            Utils.setCustomConfiguration(cosmosClientBuilder, customConfig);
-            cosmosClient = cosmosClientBuilder.buildClient();
+            Object metricsConfig = config.get(METRICS);
+            Object throughputControlGroups = config.get(THROUGHPUT_CONTROL_GROUPS);
+            String registryKey = ClientRegistry.createKey(baseUrl, token, customConfig, metricsConfig,
+                    throughputControlGroups);
+            // The configuration is read before the shared client is acquired, so that an invalid configuration
+            // does not leave a reference to it behind.
+            String responseShape = config.containsKey(RESPONSE_SHAPE) ?
+                    config.getStringValue(RESPONSE_SHAPE).getValue() : RESPONSE_SHAPE_FULL;
+            CosmosEndToEndOperationLatencyPolicyConfig readLatencyPolicy =
+                    Utils.createLatencyPolicy(customConfig, HEDGED_READ);
+            CosmosEndToEndOperationLatencyPolicyConfig queryLatencyPolicy =
+                    Utils.createLatencyPolicy(customConfig, HEDGED_QUERY);
+            DocumentCache documentCache = createDocumentCache(config, readLatencyPolicy);
+            SessionTokenManager sessionTokenManager = config.containsKey(MANAGE_SESSION_TOKENS) &&
+                    config.getBooleanValue(MANAGE_SESSION_TOKENS) ? new SessionTokenManager() : null;
+            ResultCursor.Prefetch resultPrefetch = createResultPrefetch(config);
+            double metricsSamplingRate = metricsConfig == null ? 0 :
+                    ((BMap<BString, Object>) metricsConfig).getFloatValue(SAMPLING_RATE);
+            long startTime = System.nanoTime();
+            CosmosAsyncClient cosmosClient = ClientRegistry.acquire(registryKey, () -> {
+                CosmosClientBuilder cosmosClientBuilder = new CosmosClientBuilder().endpoint(baseUrl).key(token);
+                Utils.setCustomConfiguration(cosmosClientBuilder, customConfig);
+                if (metricsConfig != null) {
+                    cosmosClientBuilder.clientTelemetryConfig(
+                            OperationMetrics.createTelemetryConfig((BMap<BString, Object>) metricsConfig));
+                }
+                CosmosAsyncClient asyncClient = cosmosClientBuilder.buildAsyncClient();
+                if (throughputControlGroups != null) {
+                    try {
+                        Utils.enableThroughputControlGroups(asyncClient, (BArray) throughputControlGroups);
+                    } catch (RuntimeException e) {
+                        asyncClient.close();
+                        throw e;
+                    }
+                }
+                return asyncClient;
+            });
+            try {
+                client.addNativeData(CLIENT_CONTEXT, new ClientContext(registryKey, cosmosClient, documentCache,
+                        Utils.createWarmUpStatistics(customConfig, Duration.ofNanos(System.nanoTime() - startTime)),
+                        responseShape, readLatencyPolicy, queryLatencyPolicy, sessionTokenManager, resultPrefetch,
+                        metricsSamplingRate));
+            } catch (RuntimeException e) {
+                ClientRegistry.release(registryKey);
+                throw e;
+            }
             return null;
         } catch (Exception e) {
             return BallerinaErrorGenerator.createBallerinaDatabaseError(e);
         }
     }
 
-    public static Object createDocument(Environment env, BString databaseId, BString containerId, BMap document,
-                                        Object partitionKey, Object requestOptions) {
+    public static Object createDocument(Environment env, BObject client, BString databaseId, BString containerId,
+                                        BMap document, Object partitionKey, Object requestOptions) {
+        Future balFuture = env.markAsync();
         try {
-            CosmosContainer container = getContainer(databaseId, containerId);
-            Object documentObject = objectMapper.readValue(document.toString(), Object.class);
-            CosmosItemResponse<Object> response = container.createItem(documentObject, createPartitionKey(partitionKey),
-                    createRequestOptions(requestOptions));
-            return createDocumentResponse(response);
+            CosmosAsyncContainer container = getContainer(client, databaseId, containerId);
+            String responseShape = getResponseShape(client, requestOptions);
+            Mono<CosmosItemResponse<BallerinaDocument>> response = captureSessionToken(client, databaseId, containerId,
+                    container.createItem(new BallerinaDocument(document), createPartitionKey(partitionKey),
+                            setContentResponseOnWrite(createRequestOptions(requestOptions), requestOptions,
+                                    responseShape)), CosmosItemResponse::getSessionToken);
+            Object id = document.get(ID);
+            completeAsync(balFuture, id == null ? response :
+                    invalidateOnWrite(client, databaseId, containerId, id.toString(), partitionKey, response),
+                    itemResponse -> Utils.createDocumentResponse(itemResponse, responseShape));
         } catch (Exception e) {
-            return BallerinaErrorGenerator.createBallerinaDatabaseError(e);
+            balFuture.complete(BallerinaErrorGenerator.createBallerinaDatabaseError(e));
         }
+        return null;
     }
 
-    public static Object replaceDocument(Environment env, BString databaseId, BString containerId, BString documentId,
-                                         BMap document, Object partitionKey, Object requestOptions) {
+    public static Object replaceDocument(Environment env, BObject client, BString databaseId, BString containerId,
+                                         BString documentId, BMap document, Object partitionKey,
+                                         Object requestOptions) {
+        Future balFuture = env.markAsync();
         try {
-            CosmosContainer container = getContainer(databaseId, containerId);
-            Object documentObject = objectMapper.readValue(document.toString(), Object.class);
-            CosmosItemResponse<Object> response = container.replaceItem(documentObject, documentId.getValue(),
-                    createPartitionKey(partitionKey), createRequestOptions(requestOptions));
-            return createDocumentResponse(response);
+            CosmosAsyncContainer container = getContainer(client, databaseId, containerId);
+            String responseShape = getResponseShape(client, requestOptions);
+            completeAsync(balFuture, invalidateOnWrite(client, databaseId, containerId, documentId.getValue(),
+                    partitionKey, captureSessionToken(client, databaseId, containerId, container.replaceItem(
+                            new BallerinaDocument(document), documentId.getValue(), createPartitionKey(partitionKey),
+                            setContentResponseOnWrite(createRequestOptions(requestOptions), requestOptions,
+                                    responseShape)), CosmosItemResponse::getSessionToken)),
+                    response -> Utils.createDocumentResponse(response, responseShape));
         } catch (Exception e) {
-            return BallerinaErrorGenerator.createBallerinaDatabaseError(e);
+            balFuture.complete(BallerinaErrorGenerator.createBallerinaDatabaseError(e));
+        }
+        return null;
+    }
+
+    public static Object patchDocument(Environment env, BObject client, BString databaseId, BString containerId,
+                                       BString documentId, BArray patchOperations, Object partitionKey,
+                                       Object patchOptions) {
+        Future balFuture = env.markAsync();
+        try {
+            CosmosAsyncContainer container = getContainer(client, databaseId, containerId);
+            String responseShape = getResponseShape(client, patchOptions);
+            completeAsync(balFuture, invalidateOnWrite(client, databaseId, containerId, documentId.getValue(),
+                    partitionKey, captureSessionToken(client, databaseId, containerId, container.patchItem(
+                            documentId.getValue(), createPartitionKey(partitionKey),
+                            ItemOperations.createPatchOperations(patchOperations), setContentResponseOnWrite(
+                                    createPatchRequestOptions(patchOptions), patchOptions, responseShape),
+                            BallerinaDocument.class), CosmosItemResponse::getSessionToken)),
+                    response -> Utils.createDocumentResponse(response, responseShape));
+        } catch (Exception e) {
+            balFuture.complete(BallerinaErrorGenerator.createBallerinaDatabaseError(e));
         }
+        return null;
     }
 
     public static Object getDocument(Environment env, BObject client, BString databaseId, BString containerId,
                                      BString documentId, Object partitionKey, Object requestOptions,
                                      BTypedesc recordType) {
+        Future balFuture = env.markAsync();
         try {
-            CosmosContainer container = getContainer(databaseId, containerId);
-            Object item = container.readItem(documentId.toString(), createPartitionKey(partitionKey),
-                    createRequestOptions(requestOptions), Object.class).getItem();
-            String jsonStringItem = objectMapper.writeValueAsString(item);
-            return FromJsonStringWithType.fromJsonStringWithType(fromString(jsonStringItem), recordType);
+            CosmosAsyncContainer container = getContainer(client, databaseId, containerId);
+            RecordType targetType = (RecordType) recordType.getDescribingType();
+            DocumentCache documentCache = getClientContext(client).getDocumentCache();
+            if (documentCache != null && requestOptions == null) {
+                completeAsync(balFuture, documentCache.read(container, getContainerKey(databaseId, containerId),
+                        documentId.getValue(), createPartitionKey(partitionKey), targetType), Function.identity());
+                return null;
+            }
+            completeAsync(balFuture, container.readItem(documentId.toString(), createPartitionKey(partitionKey),
+                    withReadLatencyPolicy(client, withSessionToken(client, databaseId, containerId,
+                            createRequestOptions(requestOptions))), JsonNode.class),
+                    response -> RecordIteratorUtils.createRecord(response.getItem(), targetType));
         } catch (Exception e) {
-            return BallerinaErrorGenerator.createBallerinaDatabaseError(e);
+            balFuture.complete(BallerinaErrorGenerator.createBallerinaDatabaseError(e));
+        }
+        return null;
+    }
+
+    public static Object getDocuments(Environment env, BObject client, BString databaseId, BString containerId,
+                                      BArray documentIdentities, Object readManyOptions, BTypedesc recordType) {
+        Future balFuture = env.markAsync();
+        try {
+            CosmosAsyncContainer container = getContainer(client, databaseId, containerId);
+            RecordType targetType = (RecordType) recordType.getDescribingType();
+            String sessionToken = Utils.getSessionToken(readManyOptions);
+            completeAsync(balFuture, new ReadManyRequest(documentIdentities).execute(container,
+                    getClientContext(client).getPartitionKeyPath(container), sessionToken == null ?
+                    getManagedSessionToken(client, databaseId, containerId) : sessionToken, targetType),
+                    Function.identity());
+        } catch (Exception e) {
+            balFuture.complete(BallerinaErrorGenerator.createBallerinaDatabaseError(e));
         }
+        return null;
     }
 
     public static Object queryDocuments(Environment env, BObject client, BString databaseId, BString containerId,
-                                        BString query, Object queryOptions, BTypedesc recordType) {
+                                        Object query, Object queryOptions, BTypedesc recordType) {
 
-        CosmosQueryRequestOptions options = setQueryOptions(queryOptions);
+        try {
+            CosmosQueryRequestOptions options = withQueryLatencyPolicy(client, withSessionToken(client, databaseId,
+                    containerId, setQueryOptions(queryOptions)));
+            CosmosAsyncContainer container = getContainer(client, databaseId, containerId);
+            CosmosPagedFlux<JsonNode> objects = container.queryItems(createQuerySpec(query), options,
+                    JsonNode.class);
+            RecordType targetType = (RecordType) recordType.getDescribingType();
+            return createRecordStream(client, QUERY_DOCUMENTS, databaseId, containerId, objects, targetType,
+                    item -> RecordIteratorUtils.createRecord(item, targetType));
+        } catch (Exception e) {
+            return BallerinaErrorGenerator.createBallerinaDatabaseError(e);
+        }
+    }
 
+    public static Object queryDocumentsByFeedRange(Environment env, BObject client, BString databaseId,
+                                                   BString containerId, Object query, Object queryOptions,
+                                                   BTypedesc recordType) {
+        Future balFuture = env.markAsync();
         try {
-            CosmosContainer container = getContainer(databaseId, containerId);
-            CosmosPagedIterable<Object> objects = container.queryItems(query.getValue(), options, Object.class);
-            Iterator<Object> objectIterator = objects.iterator();
+            CosmosAsyncContainer container = getContainer(client, databaseId, containerId);
+            SqlQuerySpec querySpec = createQuerySpec(query);
             RecordType targetType = (RecordType) recordType.getDescribingType();
+            completeAsync(balFuture, container.getFeedRanges(), feedRanges -> {
+                Object[] streams = new Object[feedRanges.size()];
+                for (int i = 0; i < streams.length; i++) {
+                    CosmosPagedFlux<JsonNode> documents = container.queryItems(querySpec,
+                            createFeedRangeQueryOptions(client, databaseId, containerId, queryOptions,
+                                    feedRanges.get(i)), JsonNode.class);
+                    streams[i] = createRecordStream(client, QUERY_DOCUMENTS, databaseId, containerId, documents,
+                            targetType, item -> RecordIteratorUtils.createRecord(item, targetType));
+                }
+                return ValueCreator.createArrayValue(streams, TypeCreator.createArrayType(
+                        TypeCreator.createStreamType(targetType, PredefinedTypes.TYPE_NULL)));
+            });
+        } catch (Exception e) {
+            balFuture.complete(BallerinaErrorGenerator.createBallerinaDatabaseError(e));
+        }
+        return null;
+    }
 
-            BObject bObject = ValueCreator.createObjectValue(ModuleUtils.getModule(), Constants.RESULT_ITERATOR_OBJECT,
-                    ValueCreator.createObjectValue(ModuleUtils.getModule(), COSMOS_RESULT_ITERATOR_OBJECT));
-            bObject.addNativeData(Constants.OBJECT_ITERATOR, objectIterator);
-            bObject.addNativeData(Constants.RECORD_TYPE, targetType);
-            return ValueCreator.createStreamValue(TypeCreator.createStreamType(targetType, PredefinedTypes.TYPE_NULL),
-                    bObject);
+    public static Object queryDocumentsInParallel(Environment env, BObject client, BString databaseId,
+                                                  BString containerId, Object query, BMap<BString, Object> options,
+                                                  BTypedesc recordType) {
+        try {
+            CosmosAsyncContainer container = getContainer(client, databaseId, containerId);
+            SqlQuerySpec querySpec = createQuerySpec(query);
+            Object queryOptions = options.get(QUERY_OPTIONS);
+            int maxConcurrency = Math.toIntExact(options.getIntValue(MAX_CONCURRENCY));
+            if (maxConcurrency <= 0) {
+                throw new IllegalArgumentException("Max concurrency must be positive, but is " + maxConcurrency);
+            }
+            // Each feed range is queried by its own subscription, at most one page ahead of the merged stream, so
+            // that up to maxConcurrency ranges are fetched at once while their pages are merged as they arrive.
+            Flux<List<JsonNode>> pages = container.getFeedRanges()
+                    .flatMapMany(Flux::fromIterable)
+                    .flatMap(feedRange -> container.queryItems(querySpec, createFeedRangeQueryOptions(client,
+                                    databaseId, containerId, queryOptions, feedRange), JsonNode.class).byPage()
+                            .map(FeedResponse::getResults), maxConcurrency, 1);
+            RecordType targetType = (RecordType) recordType.getDescribingType();
+            return createRecordStream(client, QUERY_DOCUMENTS_IN_PARALLEL, databaseId, containerId, pages,
+                    targetType, item -> RecordIteratorUtils.createRecord(item, targetType));
         } catch (Exception e) {
             return BallerinaErrorGenerator.createBallerinaDatabaseError(e);
         }
@@ -147,19 +342,14 @@ public class DataplaneClient {
     public static Object getDocumentList(Environment env, BObject client, BString databaseId, BString containerId,
                                          Object partitionKey, Object queryOptions, BTypedesc recordType) {
         try {
-            CosmosContainer container = getContainer(databaseId, containerId);
-            CosmosQueryRequestOptions options = setQueryOptions(queryOptions);
-            CosmosPagedIterable<Object> objects = container.readAllItems(createPartitionKey(partitionKey), options,
-                    Object.class);
-            Iterator<Object> objectIterator = objects.iterator();
+            CosmosAsyncContainer container = getContainer(client, databaseId, containerId);
+            CosmosQueryRequestOptions options = withQueryLatencyPolicy(client, withSessionToken(client, databaseId,
+                    containerId, setQueryOptions(queryOptions)));
+            CosmosPagedFlux<JsonNode> objects = container.readAllItems(createPartitionKey(partitionKey), options,
+                    JsonNode.class);
             RecordType targetType = (RecordType) recordType.getDescribingType();
-
-            BObject bObject = ValueCreator.createObjectValue(ModuleUtils.getModule(), Constants.RESULT_ITERATOR_OBJECT,
-                    ValueCreator.createObjectValue(ModuleUtils.getModule(), COSMOS_RESULT_ITERATOR_OBJECT));
-            bObject.addNativeData(Constants.OBJECT_ITERATOR, objectIterator);
-            bObject.addNativeData(Constants.RECORD_TYPE, targetType);
-            return ValueCreator.createStreamValue(TypeCreator.createStreamType(targetType, PredefinedTypes.TYPE_NULL),
-                    bObject);
+            return createRecordStream(client, GET_DOCUMENT_LIST, databaseId, containerId, objects, targetType,
+                    item -> RecordIteratorUtils.createRecord(item, targetType));
         } catch (Exception e) {
             return BallerinaErrorGenerator.createBallerinaDatabaseError(e);
         }
@@ -168,48 +358,70 @@ public class DataplaneClient {
 
     public static Object deleteDocument(Environment env, BObject client, BString databaseId, BString containerId,
                                         BString itemId, Object partitionKey, Object requestOptions) {
+        Future balFuture = env.markAsync();
         try {
-            CosmosContainer container = getContainer(databaseId, containerId);
-            CosmosItemResponse<Object> response = container.deleteItem(itemId.getValue(),
-                    createPartitionKey(partitionKey), createRequestOptions(requestOptions));
-            return createDocumentResponse(response);
+            CosmosAsyncContainer container = getContainer(client, databaseId, containerId);
+            String responseShape = getResponseShape(client, requestOptions);
+            completeAsync(balFuture, invalidateOnWrite(client, databaseId, containerId, itemId.getValue(),
+                    partitionKey, captureSessionToken(client, databaseId, containerId, container.deleteItem(
+                            itemId.getValue(), createPartitionKey(partitionKey), createRequestOptions(requestOptions)),
+                            CosmosItemResponse::getSessionToken)),
+                    response -> Utils.createDocumentResponse(response, responseShape));
         } catch (Exception e) {
-            return BallerinaErrorGenerator.createBallerinaDatabaseError(e);
+            balFuture.complete(BallerinaErrorGenerator.createBallerinaDatabaseError(e));
         }
+        return null;
     }
 
-    public static Object createStoredProcedure(Environment env, BString databaseId, BString containerId,
-                                               BString storedProcedureId, BString storedProcedure,
+    public static Object queryDocumentsPage(Environment env, BObject client, BString databaseId, BString containerId,
+                                            Object query, Object queryOptions, Object continuationToken,
+                                            Object pageSize, BTypedesc pageType) {
+        Future balFuture = env.markAsync();
+        try {
+            CosmosAsyncContainer container = getContainer(client, databaseId, containerId);
+            CosmosPagedFlux<JsonNode> documents = container.queryItems(createQuerySpec(query),
+                    withQueryLatencyPolicy(client, withSessionToken(client, databaseId, containerId,
+                            setQueryOptions(queryOptions))), JsonNode.class);
+            String token = continuationToken == null ? null : ((BString) continuationToken).getValue();
+            Flux<FeedResponse<JsonNode>> pages = pageSize == null ? documents.byPage(token) :
+                    documents.byPage(token, ((Long) pageSize).intValue());
+            RecordType targetType = (RecordType) pageType.getDescribingType();
+            completeAsync(balFuture, pages.next().map(page -> Utils.createDocumentPage(page, targetType))
+                    .switchIfEmpty(Mono.fromSupplier(() -> Utils.createEmptyDocumentPage(targetType))),
+                    Function.identity());
+        } catch (Exception e) {
+            balFuture.complete(BallerinaErrorGenerator.createBallerinaDatabaseError(e));
+        }
+        return null;
+    }
+
+    public static Object createStoredProcedure(Environment env, BObject client, BString databaseId,
+                                               BString containerId, BString storedProcedureId, BString storedProcedure,
                                                Object requestOptions) {
         CosmosStoredProcedureProperties properties = new CosmosStoredProcedureProperties(storedProcedureId.getValue(),
                 storedProcedure.getValue());
+        Future balFuture = env.markAsync();
         try {
-            CosmosContainer container = getContainer(databaseId, containerId);
-            CosmosStoredProcedureResponse response = container.getScripts().createStoredProcedure(properties,
-                    setStoredProcedureRequestOptions(requestOptions));
-            return createStoredProcedureMap(response);
+            CosmosAsyncContainer container = getContainer(client, databaseId, containerId);
+            completeAsync(balFuture, container.getScripts().createStoredProcedure(properties,
+                    setStoredProcedureRequestOptions(requestOptions)), Utils::createStoredProcedureMap);
         } catch (Exception e) {
-            return BallerinaErrorGenerator.createBallerinaDatabaseError(e);
+            balFuture.complete(BallerinaErrorGenerator.createBallerinaDatabaseError(e));
         }
+        return null;
     }
 
     public static Object listStoredProcedures(Environment env, BObject client, BString databaseId,
                                               BString containerId) {
         try {
-            CosmosContainer container = getContainer(databaseId, containerId);
-            CosmosPagedIterable<CosmosStoredProcedureProperties> cosmosStoredProcedures = container.getScripts().
+            CosmosAsyncContainer container = getContainer(client, databaseId, containerId);
+            CosmosPagedFlux<CosmosStoredProcedureProperties> cosmosStoredProcedures = container.getScripts().
                     readAllStoredProcedures();
-            Iterator<CosmosStoredProcedureProperties> iterator = cosmosStoredProcedures.iterator();
 
             RecordType returnType = TypeCreator.createRecordType(STORED_PROCEDURE, ModuleUtils.getModule(), 0,
                     true, 0);
-            BObject bObject = ValueCreator.createObjectValue(ModuleUtils.getModule(), Constants.RESULT_ITERATOR_OBJECT,
-                    ValueCreator.createObjectValue(ModuleUtils.getModule(), COSMOS_RESULT_ITERATOR_OBJECT));
-            bObject.addNativeData(Constants.OBJECT_ITERATOR, iterator);
-            bObject.addNativeData(Constants.RECORD_TYPE, returnType);
-
-            return ValueCreator.createStreamValue(TypeCreator.createStreamType(returnType, PredefinedTypes.TYPE_NULL),
-                    bObject);
+            return createRecordStream(client, LIST_STORED_PROCEDURES, databaseId, containerId, cosmosStoredProcedures,
+                    returnType, RecordIteratorUtils::createStoredProcedureRecord);
         } catch (Exception e) {
             return BallerinaErrorGenerator.createBallerinaDatabaseError(e);
         }
@@ -217,43 +429,424 @@ public class DataplaneClient {
 
     public static Object deleteStoredProcedure(Environment env, BObject client, BString databaseId, BString containerId,
                                                BString storedProcedureId) {
+        Future balFuture = env.markAsync();
         try {
-            CosmosContainer container = getContainer(databaseId, containerId);
-            CosmosStoredProcedureResponse response = container.getScripts().getStoredProcedure(
-                    storedProcedureId.getValue()).delete();
-            return createStoredProcedureMap(response);
+            CosmosAsyncContainer container = getContainer(client, databaseId, containerId);
+            completeAsync(balFuture, container.getScripts().getStoredProcedure(storedProcedureId.getValue()).delete(),
+                    Utils::createStoredProcedureMap);
         } catch (Exception e) {
-            return BallerinaErrorGenerator.createBallerinaDatabaseError(e);
+            balFuture.complete(BallerinaErrorGenerator.createBallerinaDatabaseError(e));
         }
+        return null;
     }
 
     public static Object executeStoredProcedure(Environment env, BObject client, BString databaseId,
                                                 BString containerId, BString storedProcedureId, Object partitionKey,
                                                 Object storedProcedureExecuteOptions) {
+        Future balFuture = env.markAsync();
         try {
-            CosmosContainer container = getContainer(databaseId, containerId);
+            CosmosAsyncContainer container = getContainer(client, databaseId, containerId);
             List<Object> parameters = setProcedureParams(storedProcedureExecuteOptions);
             CosmosStoredProcedureRequestOptions options = setExecuteStoredProcedureRequestOptions(partitionKey,
                     storedProcedureExecuteOptions);
-            CosmosStoredProcedureResponse response = container.getScripts().getStoredProcedure(
-                    storedProcedureId.getValue()).execute(parameters, options);
-            return createStoredProcedureMap(response);
+            completeAsync(balFuture, captureSessionToken(client, databaseId, containerId, container.getScripts()
+                    .getStoredProcedure(storedProcedureId.getValue()).execute(parameters, options),
+                    CosmosStoredProcedureResponse::getSessionToken), Utils::createStoredProcedureMap);
+        } catch (Exception e) {
+            balFuture.complete(BallerinaErrorGenerator.createBallerinaDatabaseError(e));
+        }
+        return null;
+    }
+
+    public static Object executeStoredProcedureInBulk(Environment env, BObject client, BString databaseId,
+                                                      BString containerId, BString storedProcedureId,
+                                                      Object partitionKey, BArray documents, Object bulkOptions) {
+        Future balFuture = env.markAsync();
+        try {
+            CosmosAsyncContainer container = getContainer(client, databaseId, containerId);
+            CosmosStoredProcedureRequestOptions options = setExecuteStoredProcedureRequestOptions(partitionKey,
+                    bulkOptions);
+            StoredProcedureBulkExecution execution = new StoredProcedureBulkExecution(documents, bulkOptions);
+            Mono<Object> result = execution.execute(container.getScripts().getStoredProcedure(
+                    storedProcedureId.getValue()), options);
+            SessionTokenManager sessionTokenManager = getClientContext(client).getSessionTokenManager();
+            if (sessionTokenManager != null) {
+                // The documents of the executions which completed are written, even if a later execution fails.
+                String containerKey = getContainerKey(databaseId, containerId);
+                result = result.doFinally(signal -> sessionTokenManager.capture(containerKey,
+                        execution.getSessionToken()));
+            }
+            completeAsync(balFuture, result, Function.identity());
+        } catch (Exception e) {
+            balFuture.complete(BallerinaErrorGenerator.createBallerinaDatabaseError(e));
+        }
+        return null;
+    }
+
+    public static Object queryChangeFeed(BObject client, BString databaseId, BString containerId,
+                                         Object changeFeedOptions, BTypedesc recordType) {
+        try {
+            CosmosAsyncContainer container = getContainer(client, databaseId, containerId);
+            CosmosPagedFlux<JsonNode> changes = container.queryChangeFeed(setChangeFeedOptions(changeFeedOptions),
+                    JsonNode.class);
+            RecordType targetType = (RecordType) recordType.getDescribingType();
+            return createRecordStream(client, QUERY_CHANGE_FEED, databaseId, containerId, changes, targetType,
+                    item -> RecordIteratorUtils.createRecord(item, targetType));
+        } catch (Exception e) {
+            return BallerinaErrorGenerator.createBallerinaDatabaseError(e);
+        }
+    }
+
+    public static Object getFeedRanges(Environment env, BObject client, BString databaseId, BString containerId) {
+        Future balFuture = env.markAsync();
+        try {
+            CosmosAsyncContainer container = getContainer(client, databaseId, containerId);
+            completeAsync(balFuture, container.getFeedRanges(), Utils::createFeedRangeArray);
+        } catch (Exception e) {
+            balFuture.complete(BallerinaErrorGenerator.createBallerinaDatabaseError(e));
+        }
+        return null;
+    }
+
+    public static Object executeBulkOperations(Environment env, BObject client, BString databaseId,
+                                               BString containerId, BArray operations, long startIndex,
+                                               Object bulkOptions) {
+        try {
+            CosmosAsyncContainer container = getContainer(client, databaseId, containerId);
+            int size = operations.size();
+            List<CosmosItemOperation> itemOperations = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                itemOperations.add(ItemOperations.createBulkOperation((BMap<BString, Object>) operations.get(i),
+                        startIndex + i));
+            }
+            return createBulkResultStream(client, databaseId, containerId, container.executeBulkOperations(
+                    Flux.fromIterable(itemOperations), setBulkExecutionOptions(bulkOptions)));
         } catch (Exception e) {
             return BallerinaErrorGenerator.createBallerinaDatabaseError(e);
         }
     }
 
-    public static Object close() {
+    public static Object openBulkExecution(BObject client, BString databaseId, BString containerId,
+                                           Object bulkOptions) {
         try {
-            cosmosClient.close();
+            CosmosAsyncContainer container = getContainer(client, databaseId, containerId);
+            BulkOperationFeed feed = new BulkOperationFeed();
+            feed.setResults(createBulkResultStream(client, databaseId, containerId,
+                    container.executeBulkOperations(feed.getOperations(), setBulkExecutionOptions(bulkOptions))));
+            return ValueCreator.createHandleValue(feed);
+        } catch (Exception e) {
+            return BallerinaErrorGenerator.createBallerinaDatabaseError(e);
+        }
+    }
+
+    public static Object getBulkResults(BulkOperationFeed feed) {
+        return feed.getResults();
+    }
+
+    public static Object submitBulkOperations(BulkOperationFeed feed, BArray operations, long startIndex) {
+        try {
+            feed.submit(operations, startIndex);
             return null;
         } catch (Exception e) {
             return BallerinaErrorGenerator.createBallerinaDatabaseError(e);
         }
     }
 
-    private static CosmosContainer getContainer(BString databaseId, BString containerId) {
-        CosmosDatabase database = cosmosClient.getDatabase(databaseId.getValue());
-        return database.getContainer(containerId.getValue());
+    public static void completeBulkOperations(BulkOperationFeed feed) {
+        feed.complete();
+    }
+
+    public static Object executeTransactionalBatch(Environment env, BObject client, BString databaseId,
+                                                   BString containerId, Object partitionKey, BArray operations,
+                                                   Object batchOptions) {
+        Future balFuture = env.markAsync();
+        try {
+            CosmosAsyncContainer container = getContainer(client, databaseId, containerId);
+            CosmosBatch batch = CosmosBatch.createCosmosBatch(createPartitionKey(partitionKey));
+            int size = operations.size();
+            for (int i = 0; i < size; i++) {
+                ItemOperations.addBatchOperation(batch, (BMap<BString, Object>) operations.get(i));
+            }
+            Mono<CosmosBatchResponse> response = container.executeCosmosBatch(batch,
+                    setBatchRequestOptions(batchOptions));
+            DocumentCache documentCache = getClientContext(client).getDocumentCache();
+            if (documentCache != null) {
+                // The documents are removed even if the batch fails, as a timed out batch may still be committed.
+                String containerKey = getContainerKey(databaseId, containerId);
+                response = response.doFinally(signal -> batch.getOperations().forEach(operation ->
+                        invalidateOnWrite(documentCache, containerKey, operation, batch.getPartitionKeyValue())));
+            }
+            completeAsync(balFuture, captureSessionToken(client, databaseId, containerId, response,
+                    CosmosBatchResponse::getSessionToken), ItemOperations::createBatchResponse);
+        } catch (Exception e) {
+            balFuture.complete(BallerinaErrorGenerator.createBallerinaDatabaseError(e));
+        }
+        return null;
+    }
+
+    public static Object getDocumentCacheStatistics(BObject client) {
+        DocumentCache documentCache = getClientContext(client).getDocumentCache();
+        return documentCache == null ? null : documentCache.getStatistics();
+    }
+
+    public static Object getWarmUpStatistics(BObject client) {
+        return getClientContext(client).getWarmUpStatistics();
+    }
+
+    public static Object getSessionToken(BObject client, BString databaseId, BString containerId) {
+        String sessionToken = getManagedSessionToken(client, databaseId, containerId);
+        return sessionToken == null ? null : StringUtils.fromString(sessionToken);
+    }
+
+    public static Object mergeSessionToken(BObject client, BString databaseId, BString containerId,
+                                           BString sessionToken) {
+        try {
+            SessionTokenManager sessionTokenManager = getClientContext(client).getSessionTokenManager();
+            if (sessionTokenManager == null) {
+                throw new IllegalStateException("The client does not manage session tokens");
+            }
+            sessionTokenManager.merge(getContainerKey(databaseId, containerId), sessionToken.getValue());
+            return null;
+        } catch (Exception e) {
+            return BallerinaErrorGenerator.createBallerinaDatabaseError(e);
+        }
+    }
+
+    public static Object close(BObject client) {
+        try {
+            getClientContext(client).close();
+            return null;
+        } catch (Exception e) {
+            return BallerinaErrorGenerator.createBallerinaDatabaseError(e);
+        }
+    }
+
+    private static ClientContext getClientContext(BObject client) {
+        return (ClientContext) client.getNativeData(CLIENT_CONTEXT);
+    }
+
+    private static CosmosAsyncContainer getContainer(BObject client, BString databaseId, BString containerId) {
+        return getClientContext(client).getContainer(databaseId, containerId);
+    }
+
+    private static String getContainerKey(BString databaseId, BString containerId) {
+        return databaseId.getValue() + "/" + containerId.getValue();
+    }
+
+    private static DocumentCache createDocumentCache(BMap<BString, BValue> config,
+                                                     CosmosEndToEndOperationLatencyPolicyConfig readLatencyPolicy) {
+        if (!config.containsKey(DOCUMENT_CACHE)) {
+            return null;
+        }
+        BMap<BString, Object> cacheConfig = (BMap<BString, Object>) config.getMapValue(DOCUMENT_CACHE);
+        return new DocumentCache(cacheConfig.getIntValue(MAX_ENTRIES), cacheConfig.getIntValue(TIME_TO_LIVE),
+                readLatencyPolicy);
+    }
+
+    private static CosmosQueryRequestOptions createFeedRangeQueryOptions(BObject client, BString databaseId,
+                                                                         BString containerId, Object queryOptions,
+                                                                         FeedRange feedRange) {
+        CosmosQueryRequestOptions options = withQueryLatencyPolicy(client, withSessionToken(client, databaseId,
+                containerId, setQueryOptions(queryOptions)));
+        options.setFeedRange(feedRange);
+        return options;
+    }
+
+    private static ResultCursor.Prefetch createResultPrefetch(BMap<BString, BValue> config) {
+        if (!config.containsKey(RESULT_PREFETCH)) {
+            return null;
+        }
+        BMap<BString, Object> prefetchConfig = (BMap<BString, Object>) config.getMapValue(RESULT_PREFETCH);
+        return new ResultCursor.Prefetch(Math.toIntExact(prefetchConfig.getIntValue(MAX_PAGES)),
+                Math.toIntExact(prefetchConfig.getIntValue(MAX_ITEMS)));
+    }
+
+    private static CosmosItemRequestOptions withReadLatencyPolicy(BObject client, CosmosItemRequestOptions options) {
+        CosmosEndToEndOperationLatencyPolicyConfig latencyPolicy = getClientContext(client).getReadLatencyPolicy();
+        if (latencyPolicy != null) {
+            options.setCosmosEndToEndOperationLatencyPolicyConfig(latencyPolicy);
+        }
+        return options;
+    }
+
+    private static CosmosQueryRequestOptions withQueryLatencyPolicy(BObject client, CosmosQueryRequestOptions options) {
+        CosmosEndToEndOperationLatencyPolicyConfig latencyPolicy = getClientContext(client).getQueryLatencyPolicy();
+        if (latencyPolicy != null) {
+            options.setCosmosEndToEndOperationLatencyPolicyConfig(latencyPolicy);
+        }
+        return options;
+    }
+
+    private static String getManagedSessionToken(BObject client, BString databaseId, BString containerId) {
+        SessionTokenManager sessionTokenManager = getClientContext(client).getSessionTokenManager();
+        return sessionTokenManager == null ? null :
+                sessionTokenManager.getSessionToken(getContainerKey(databaseId, containerId));
+    }
+
+    private static CosmosItemRequestOptions withSessionToken(BObject client, BString databaseId, BString containerId,
+                                                             CosmosItemRequestOptions options) {
+        if (options.getSessionToken() == null) {
+            String sessionToken = getManagedSessionToken(client, databaseId, containerId);
+            if (sessionToken != null) {
+                options.setSessionToken(sessionToken);
+            }
+        }
+        return options;
+    }
+
+    private static CosmosQueryRequestOptions withSessionToken(BObject client, BString databaseId, BString containerId,
+                                                              CosmosQueryRequestOptions options) {
+        if (options.getSessionToken() == null) {
+            String sessionToken = getManagedSessionToken(client, databaseId, containerId);
+            if (sessionToken != null) {
+                options.setSessionToken(sessionToken);
+            }
+        }
+        return options;
+    }
+
+    private static <T> Mono<T> captureSessionToken(BObject client, BString databaseId, BString containerId,
+                                                   Mono<T> write, Function<T, String> sessionTokenGetter) {
+        SessionTokenManager sessionTokenManager = getClientContext(client).getSessionTokenManager();
+        if (sessionTokenManager == null) {
+            return write;
+        }
+        String containerKey = getContainerKey(databaseId, containerId);
+        return write.doOnNext(response -> sessionTokenManager.capture(containerKey,
+                sessionTokenGetter.apply(response)));
+    }
+
+    private static String getResponseShape(BObject client, Object requestOptions) {
+        if (requestOptions != null && ((BMap<BString, Object>) requestOptions).containsKey(RESPONSE_SHAPE)) {
+            return ((BMap<BString, Object>) requestOptions).getStringValue(RESPONSE_SHAPE).getValue();
+        }
+        return getClientContext(client).getResponseShape();
+    }
+
+    private static <T extends CosmosItemRequestOptions> T setContentResponseOnWrite(T options, Object requestOptions,
+                                                                                    String responseShape) {
+        // A minimal response does not carry the document, hence the service is asked not to send it back, unless the
+        // request asks for it explicitly.
+        if (RESPONSE_SHAPE_MINIMAL.equals(responseShape) && (requestOptions == null ||
+                !((BMap<BString, Object>) requestOptions).containsKey(CONTENT_RESPONSE_ON_WRITE_ENABLED))) {
+            options.setContentResponseOnWriteEnabled(false);
+        }
+        return options;
+    }
+
+    private static <T> Mono<T> invalidateOnWrite(BObject client, BString databaseId, BString containerId, String id,
+                                                 Object partitionKey, Mono<T> write) {
+        DocumentCache documentCache = getClientContext(client).getDocumentCache();
+        if (documentCache == null) {
+            return write;
+        }
+        // The document is removed once the write completes, so that a read racing with the write cannot keep the old
+        // version.
+        String containerKey = getContainerKey(databaseId, containerId);
+        return write.doFinally(signal -> documentCache.invalidate(containerKey, id, createPartitionKey(partitionKey)));
+    }
+
+    /**
+     * Removes the document written by a bulk or batch operation from the document cache. The ID of a created or
+     * upserted document is taken from the document, as the SDK does not know it.
+     */
+    private static void invalidateOnWrite(DocumentCache documentCache, String containerKey,
+                                          CosmosItemOperation operation, PartitionKey partitionKey) {
+        if (operation.getOperationType() == CosmosItemOperationType.READ) {
+            return;
+        }
+        String id = operation.getId();
+        Object item = operation.getItem();
+        if (id == null && item instanceof BallerinaDocument) {
+            id = ((BallerinaDocument) item).getDocumentId();
+        }
+        if (id != null) {
+            documentCache.invalidate(containerKey, id, partitionKey);
+        }
+    }
+
+    /**
+     * Resumes the suspended strand with the mapped value of the given response, or with a Ballerina error if the
+     * request fails or completes without a response.
+     *
+     * @param balFuture      Future of the suspended strand
+     * @param response       Pending response of the SDK call
+     * @param responseMapper Function which maps the SDK response to the Ballerina return value
+     * @param <T>            Type of the SDK response
+     */
+    private static <T> void completeAsync(Future balFuture, Mono<T> response, Function<T, Object> responseMapper) {
+        // A response which completes without a value must still resume the strand, which would otherwise wait forever.
+        response.map(responseMapper)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("The request completed without a response")))
+                .subscribe(balFuture::complete,
+                error -> balFuture.complete(BallerinaErrorGenerator.createBallerinaDatabaseError(error)));
+    }
+
+    private static Object createBulkResultStream(BObject client, BString databaseId, BString containerId,
+                                                 Flux<CosmosBulkOperationResponse<Long>> responses) {
+        DocumentCache documentCache = getClientContext(client).getDocumentCache();
+        if (documentCache != null) {
+            String containerKey = getContainerKey(databaseId, containerId);
+            responses = responses.doOnNext(response -> invalidateOnWrite(documentCache, containerKey,
+                    response.getOperation(), response.getOperation().getPartitionKeyValue()));
+        }
+        SessionTokenManager sessionTokenManager = getClientContext(client).getSessionTokenManager();
+        if (sessionTokenManager != null) {
+            String containerKey = getContainerKey(databaseId, containerId);
+            responses = responses.doOnNext(response -> {
+                if (response.getResponse() != null) {
+                    sessionTokenManager.capture(containerKey, response.getResponse().getSessionToken());
+                }
+            });
+        }
+        RecordType returnType = TypeCreator.createRecordType(ITEM_OPERATION_RESULT, ModuleUtils.getModule(), 0,
+                true, 0);
+        // A page of results is handed over once it is full or its first result has waited for the timeout, so that
+        // slow operations do not hold back the results of the completed ones. The pages are buffered until the
+        // stream asks for them, as the timeout does not wait for the demand of the stream.
+        return createRecordStream(responses.bufferTimeout(BULK_RESULT_PAGE_SIZE, BULK_RESULT_PAGE_TIMEOUT)
+                .onBackpressureBuffer(), returnType, ItemOperations::createBulkOperationResult);
+    }
+
+    /**
+     * Creates the metrics of a stream if the stream is sampled. The decision is made once per stream, so that the
+     * pages of an unsampled stream do not update the gauges.
+     */
+    private static OperationMetrics.StreamMetrics createStreamMetrics(ClientContext context, String operation,
+                                                                      BString databaseId, BString containerId) {
+        return OperationMetrics.isSampled(context.getMetricsSamplingRate()) ? OperationMetrics.createStreamMetrics(
+                operation, databaseId.getValue(), containerId.getValue()) : null;
+    }
+
+    private static <T> Object createRecordStream(BObject client, String operation, BString databaseId,
+                                                 BString containerId, CosmosPagedFlux<T> pagedFlux,
+                                                 RecordType recordType, Function<T, Object> recordMapper) {
+        ClientContext context = getClientContext(client);
+        OperationMetrics.StreamMetrics metrics = createStreamMetrics(context, operation, databaseId, containerId);
+        return createRecordStream(new ResultCursor<>(pagedFlux, recordMapper, context.getResultPrefetch(), metrics),
+                recordType);
+    }
+
+    private static <T> Object createRecordStream(BObject client, String operation, BString databaseId,
+                                                 BString containerId, Flux<List<T>> pages, RecordType recordType,
+                                                 Function<T, Object> recordMapper) {
+        ClientContext context = getClientContext(client);
+        OperationMetrics.StreamMetrics metrics = createStreamMetrics(context, operation, databaseId, containerId);
+        return createRecordStream(new ResultCursor<>(pages, recordMapper, context.getResultPrefetch(), metrics),
+                recordType);
+    }
+
+    private static <T> Object createRecordStream(Flux<List<T>> pages, RecordType recordType,
+                                                 Function<T, Object> recordMapper) {
+        return createRecordStream(new ResultCursor<>(pages, recordMapper), recordType);
+    }
+
+    private static Object createRecordStream(ResultCursor<?> cursor, RecordType recordType) {
+        BObject bObject = ValueCreator.createObjectValue(ModuleUtils.getModule(), Constants.RESULT_ITERATOR_OBJECT,
+                ValueCreator.createObjectValue(ModuleUtils.getModule(), COSMOS_RESULT_ITERATOR_OBJECT));
+        bObject.addNativeData(Constants.RESULT_CURSOR, cursor);
+        bObject.addNativeData(Constants.RECORD_TYPE, recordType);
+        return ValueCreator.createStreamValue(TypeCreator.createStreamType(recordType, PredefinedTypes.TYPE_NULL),
+                bObject);
     }
 }
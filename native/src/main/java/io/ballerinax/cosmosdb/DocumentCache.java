@@ -0,0 +1,249 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerinax.cosmosdb;
+
+import com.azure.cosmos.CosmosAsyncContainer;
+import com.azure.cosmos.CosmosEndToEndOperationLatencyPolicyConfig;
+import com.azure.cosmos.CosmosException;
+import com.azure.cosmos.models.CosmosItemRequestOptions;
+import com.azure.cosmos.models.CosmosItemResponse;
+import com.azure.cosmos.models.PartitionKey;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BValue;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static io.ballerinax.cosmosdb.Constants.DOCUMENT_CACHE_STATISTICS;
+
+/**
+ * A size-bounded, least-recently-used cache of documents read through `getDocument`. Documents are kept together with
+ * their ETag. Once the time to live of a document expires, the next read revalidates it with an `If-None-Match`
+ * request, which costs almost no request units if the document has not changed. The records materialized from a
+ * document are kept per record type, so that hits skip the conversion of the document.
+ * <p>
+ * A read which misses, or revalidates, a document holds a ticket for the document until the response arrives. A write
+ * of the document withdraws the ticket, so that a response which may predate the write is not kept. Writes of other
+ * documents do not affect the read.
+ */
+final class DocumentCache {
+
+    private static final int NOT_MODIFIED = 304;
+    private static final int NOT_FOUND = 404;
+
+    private final long timeToLiveNanos;
+    private final CosmosEndToEndOperationLatencyPolicyConfig latencyPolicy;
+    private final Map<Key, Entry> entries;
+    // Guarded by the lock of the entries.
+    private final Map<Key, Object> readTickets = new HashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    DocumentCache(long maxEntries, long timeToLiveSeconds, CosmosEndToEndOperationLatencyPolicyConfig latencyPolicy) {
+        this.timeToLiveNanos = TimeUnit.SECONDS.toNanos(timeToLiveSeconds);
+        this.latencyPolicy = latencyPolicy;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Reads a document through the cache.
+     *
+     * @param container    Container of the document
+     * @param containerId  Database and container ID which identify the container within the client
+     * @param id           ID of the document
+     * @param partitionKey Partition key of the document
+     * @param recordType   Type of the record to which the document is converted
+     * @return A record owned by the caller, or an error
+     */
+    Mono<Object> read(CosmosAsyncContainer container, String containerId, String id, PartitionKey partitionKey,
+                      RecordType recordType) {
+        Key key = new Key(containerId, id, partitionKey);
+        Entry entry;
+        Object readTicket = null;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry == null || System.nanoTime() >= entry.expiresAt) {
+                // Concurrent reads of a document share a ticket, and the first response is kept.
+                readTicket = readTickets.computeIfAbsent(key, ticket -> new Object());
+            }
+        }
+        if (readTicket == null) {
+            hits.increment();
+            return Mono.just(entry.getRecord(recordType));
+        }
+        Object ticket = readTicket;
+        if (entry == null) {
+            misses.increment();
+            return container.readItem(id, partitionKey, createReadOptions(), JsonNode.class)
+                    .map(response -> store(key, response, ticket).getRecord(recordType))
+                    .doFinally(signal -> releaseTicket(key, ticket));
+        }
+        revalidations.increment();
+        CosmosItemRequestOptions options = createReadOptions().setIfNoneMatchETag(entry.etag);
+        return container.readItem(id, partitionKey, options, JsonNode.class)
+                .map(response -> response.getStatusCode() == NOT_MODIFIED ? entry.renew(timeToLiveNanos) :
+                        store(key, response, ticket))
+                .onErrorResume(error -> error instanceof CosmosException &&
+                                ((CosmosException) error).getStatusCode() == NOT_MODIFIED,
+                        error -> Mono.just(entry.renew(timeToLiveNanos)))
+                .doOnError(error -> {
+                    // A deleted document is dropped, so that the later reads do not revalidate it again.
+                    if (error instanceof CosmosException && ((CosmosException) error).getStatusCode() == NOT_FOUND) {
+                        synchronized (entries) {
+                            entries.remove(key, entry);
+                        }
+                    }
+                })
+                .map(current -> current.getRecord(recordType))
+                .doFinally(signal -> releaseTicket(key, ticket));
+    }
+
+    private CosmosItemRequestOptions createReadOptions() {
+        CosmosItemRequestOptions options = new CosmosItemRequestOptions();
+        if (latencyPolicy != null) {
+            options.setCosmosEndToEndOperationLatencyPolicyConfig(latencyPolicy);
+        }
+        return options;
+    }
+
+    /**
+     * Removes a document after it is written through the client, so that the next read fetches the new version.
+     *
+     * @param containerId  Database and container ID which identify the container within the client
+     * @param id           ID of the document
+     * @param partitionKey Partition key of the document
+     */
+    void invalidate(String containerId, String id, PartitionKey partitionKey) {
+        Key key = new Key(containerId, id, partitionKey);
+        synchronized (entries) {
+            entries.remove(key);
+            readTickets.remove(key);
+        }
+    }
+
+    Object getStatistics() {
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("hits", hits.sum());
+        statistics.put("misses", misses.sum());
+        statistics.put("revalidations", revalidations.sum());
+        statistics.put("evictions", evictions.sum());
+        synchronized (entries) {
+            statistics.put("size", (long) entries.size());
+        }
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), DOCUMENT_CACHE_STATISTICS, statistics);
+    }
+
+    private Entry store(Key key, CosmosItemResponse<JsonNode> response, Object readTicket) {
+        Entry entry = new Entry(response.getItem(), response.getETag(), System.nanoTime() + timeToLiveNanos);
+        synchronized (entries) {
+            // A document written while it was being read may be stale, hence it is kept only if the ticket of the
+            // read is still held.
+            if (readTickets.remove(key, readTicket)) {
+                entries.put(key, entry);
+            }
+        }
+        return entry;
+    }
+
+    private void releaseTicket(Key key, Object readTicket) {
+        synchronized (entries) {
+            readTickets.remove(key, readTicket);
+        }
+    }
+
+    private static final class Key {
+
+        private final String containerId;
+        private final String id;
+        private final PartitionKey partitionKey;
+
+        private Key(String containerId, String id, PartitionKey partitionKey) {
+            this.containerId = containerId;
+            this.id = id;
+            this.partitionKey = partitionKey;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return containerId.equals(key.containerId) && id.equals(key.id) &&
+                    Objects.equals(partitionKey, key.partitionKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(containerId, id, partitionKey);
+        }
+    }
+
+    private static final class Entry {
+
+        private final JsonNode document;
+        private final String etag;
+        private final Map<RecordType, Object> records = new ConcurrentHashMap<>();
+        private volatile long expiresAt;
+
+        private Entry(JsonNode document, String etag, long expiresAt) {
+            this.document = document;
+            this.etag = etag;
+            this.expiresAt = expiresAt;
+        }
+
+        private Entry renew(long timeToLiveNanos) {
+            expiresAt = System.nanoTime() + timeToLiveNanos;
+            return this;
+        }
+
+        private Object getRecord(RecordType recordType) {
+            Object record = records.get(recordType);
+            if (record == null) {
+                record = RecordIteratorUtils.createRecord(document, recordType);
+                if (record instanceof BError) {
+                    return record;
+                }
+                records.putIfAbsent(recordType, record);
+            }
+            // The cached record is never handed out, since the caller may modify the record it receives.
+            return ((BValue) record).copy(new HashMap<>());
+        }
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerinax.cosmosdb;
+
+import com.azure.cosmos.CosmosException;
+import com.azure.cosmos.models.CosmosBatch;
+import com.azure.cosmos.models.CosmosBatchItemRequestOptions;
+import com.azure.cosmos.models.CosmosBatchOperationResult;
+import com.azure.cosmos.models.CosmosBatchPatchItemRequestOptions;
+import com.azure.cosmos.models.CosmosBatchResponse;
+import com.azure.cosmos.models.CosmosBulkItemRequestOptions;
+import com.azure.cosmos.models.CosmosBulkItemResponse;
+import com.azure.cosmos.models.CosmosBulkOperationResponse;
+import com.azure.cosmos.models.CosmosBulkOperations;
+import com.azure.cosmos.models.CosmosBulkPatchItemRequestOptions;
+import com.azure.cosmos.models.CosmosItemOperation;
+import com.azure.cosmos.models.CosmosItemOperationType;
+import com.azure.cosmos.models.CosmosPatchOperations;
+import com.azure.cosmos.models.PartitionKey;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+import static io.ballerinax.cosmosdb.Constants.CREATE_OPERATION;
+import static io.ballerinax.cosmosdb.Constants.DELETE_OPERATION;
+import static io.ballerinax.cosmosdb.Constants.DOCUMENT;
+import static io.ballerinax.cosmosdb.Constants.FROM;
+import static io.ballerinax.cosmosdb.Constants.ID;
+import static io.ballerinax.cosmosdb.Constants.IF_MATCH_ETAG;
+import static io.ballerinax.cosmosdb.Constants.ITEM_OPERATION_RESULT;
+import static io.ballerinax.cosmosdb.Constants.ITEM_PARTITION_KEY;
+import static io.ballerinax.cosmosdb.Constants.OPERATION_TYPE;
+import static io.ballerinax.cosmosdb.Constants.PATCH_ADD;
+import static io.ballerinax.cosmosdb.Constants.PATCH_INCREMENT;
+import static io.ballerinax.cosmosdb.Constants.PATCH_MOVE;
+import static io.ballerinax.cosmosdb.Constants.PATCH_OPERATION;
+import static io.ballerinax.cosmosdb.Constants.PATCH_OPERATIONS;
+import static io.ballerinax.cosmosdb.Constants.PATCH_REMOVE;
+import static io.ballerinax.cosmosdb.Constants.PATCH_REPLACE;
+import static io.ballerinax.cosmosdb.Constants.PATCH_SET;
+import static io.ballerinax.cosmosdb.Constants.PATH;
+import static io.ballerinax.cosmosdb.Constants.READ_OPERATION;
+import static io.ballerinax.cosmosdb.Constants.REPLACE_OPERATION;
+import static io.ballerinax.cosmosdb.Constants.RESULTS;
+import static io.ballerinax.cosmosdb.Constants.TRANSACTIONAL_BATCH_RESPONSE;
+import static io.ballerinax.cosmosdb.Constants.UPSERT_OPERATION;
+import static io.ballerinax.cosmosdb.Constants.VALUE;
+import static io.ballerinax.cosmosdb.Utils.createPartitionKey;
+
+/**
+ * The class converts the `cosmosdb:ItemOperation` and `cosmosdb:PatchOperation` records to the bulk and batch
+ * operations of the Cosmos DB SDK, and their results back to Ballerina records.
+ */
+final class ItemOperations {
+
+    private ItemOperations() {
+    }
+
+    /**
+     * Creates a bulk operation. The position of the operation in the request is kept as the operation context, so
+     * that results, which arrive in completion order, can be matched with their operations.
+     *
+     * @param operation `cosmosdb:ItemOperation` record
+     * @param index     Position of the operation in the request
+     * @return The bulk operation
+     */
+    static CosmosItemOperation createBulkOperation(BMap<BString, Object> operation, long index) {
+        String operationType = operation.getStringValue(OPERATION_TYPE).getValue();
+        PartitionKey partitionKey = createPartitionKey(operation.get(ITEM_PARTITION_KEY));
+        String id = operation.containsKey(ID) ? operation.getStringValue(ID).getValue() : null;
+        String ifMatchETag = operation.containsKey(IF_MATCH_ETAG) ?
+                operation.getStringValue(IF_MATCH_ETAG).getValue() : null;
+        CosmosBulkItemRequestOptions options = new CosmosBulkItemRequestOptions().setIfMatchETag(ifMatchETag);
+        switch (operationType) {
+            case CREATE_OPERATION:
+                return CosmosBulkOperations.getCreateItemOperation(getDocument(operation, id), partitionKey, options,
+                        index);
+            case UPSERT_OPERATION:
+                return CosmosBulkOperations.getUpsertItemOperation(getDocument(operation, id), partitionKey, options,
+                        index);
+            case REPLACE_OPERATION:
+                return CosmosBulkOperations.getReplaceItemOperation(getId(operation, id), getDocument(operation, id),
+                        partitionKey, options, index);
+            case DELETE_OPERATION:
+                return CosmosBulkOperations.getDeleteItemOperation(getId(operation, id), partitionKey, options, index);
+            case READ_OPERATION:
+                return CosmosBulkOperations.getReadItemOperation(getId(operation, id), partitionKey, options, index);
+            case PATCH_OPERATION:
+                CosmosBulkPatchItemRequestOptions patchOptions = new CosmosBulkPatchItemRequestOptions()
+                        .setIfMatchETag(ifMatchETag);
+                return CosmosBulkOperations.getPatchItemOperation(getId(operation, id), partitionKey,
+                        getPatchOperations(operation), patchOptions, index);
+            default:
+                throw new IllegalArgumentException("Unsupported operation type: " + operationType);
+        }
+    }
+
+    /**
+     * Adds an operation to a transactional batch. The partition key of the batch applies to all of its operations.
+     *
+     * @param batch     The transactional batch
+     * @param operation `cosmosdb:ItemOperation` record
+     */
+    static void addBatchOperation(CosmosBatch batch, BMap<BString, Object> operation) {
+        String operationType = operation.getStringValue(OPERATION_TYPE).getValue();
+        String id = operation.containsKey(ID) ? operation.getStringValue(ID).getValue() : null;
+        String ifMatchETag = operation.containsKey(IF_MATCH_ETAG) ?
+                operation.getStringValue(IF_MATCH_ETAG).getValue() : null;
+        CosmosBatchItemRequestOptions options = new CosmosBatchItemRequestOptions().setIfMatchETag(ifMatchETag);
+        switch (operationType) {
+            case CREATE_OPERATION:
+                batch.createItemOperation(getDocument(operation, id), options);
+                break;
+            case UPSERT_OPERATION:
+                batch.upsertItemOperation(getDocument(operation, id), options);
+                break;
+            case REPLACE_OPERATION:
+                batch.replaceItemOperation(getId(operation, id), getDocument(operation, id), options);
+                break;
+            case DELETE_OPERATION:
+                batch.deleteItemOperation(getId(operation, id), options);
+                break;
+            case READ_OPERATION:
+                batch.readItemOperation(getId(operation, id), options);
+                break;
+            case PATCH_OPERATION:
+                batch.patchItemOperation(getId(operation, id), getPatchOperations(operation),
+                        new CosmosBatchPatchItemRequestOptions().setIfMatchETag(ifMatchETag));
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported operation type: " + operationType);
+        }
+    }
+
+    /**
+     * Creates the patch operations of the SDK from an array of `cosmosdb:PatchOperation` records.
+     *
+     * @param patchOperations Array of `cosmosdb:PatchOperation` records
+     * @return The patch operations
+     */
+    static CosmosPatchOperations createPatchOperations(BArray patchOperations) {
+        CosmosPatchOperations operations = CosmosPatchOperations.create();
+        int size = patchOperations.size();
+        for (int i = 0; i < size; i++) {
+            BMap<BString, Object> patchOperation = (BMap<BString, Object>) patchOperations.get(i);
+            String operationType = patchOperation.getStringValue(OPERATION_TYPE).getValue();
+            String path = patchOperation.getStringValue(PATH).getValue();
+            Object value = patchOperation.get(VALUE);
+            switch (operationType) {
+                case PATCH_ADD:
+                    operations.add(path, BallerinaDocument.toSdkValue(value));
+                    break;
+                case PATCH_SET:
+                    operations.set(path, BallerinaDocument.toSdkValue(value));
+                    break;
+                case PATCH_REPLACE:
+                    operations.replace(path, BallerinaDocument.toSdkValue(value));
+                    break;
+                case PATCH_REMOVE:
+                    operations.remove(path);
+                    break;
+                case PATCH_INCREMENT:
+                    if (value instanceof Long) {
+                        operations.increment(path, (Long) value);
+                    } else if (value instanceof Double) {
+                        operations.increment(path, (Double) value);
+                    } else if (value instanceof BDecimal) {
+                        operations.increment(path, ((BDecimal) value).floatValue());
+                    } else {
+                        throw new IllegalArgumentException("A numeric value is required to increment " + path);
+                    }
+                    break;
+                case PATCH_MOVE:
+                    if (!patchOperation.containsKey(FROM)) {
+                        throw new IllegalArgumentException("A source path is required to move to " + path);
+                    }
+                    operations.move(patchOperation.getStringValue(FROM).getValue(), path);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported patch operation type: " + operationType);
+            }
+        }
+        return operations;
+    }
+
+    /**
+     * Creates a `cosmosdb:ItemOperationResult` record from the response of a bulk operation.
+     *
+     * @param response Response of the bulk operation
+     * @return The `cosmosdb:ItemOperationResult` record
+     */
+    static Object createBulkOperationResult(CosmosBulkOperationResponse<Long> response) {
+        CosmosItemOperation operation = response.getOperation();
+        Map<String, Object> resultMap = new HashMap<>();
+        resultMap.put("index", operation.<Long>getContext());
+        resultMap.put("operationType", getOperationType(operation.getOperationType()));
+        if (operation.getId() != null) {
+            resultMap.put("id", operation.getId());
+        }
+        CosmosBulkItemResponse itemResponse = response.getResponse();
+        Exception exception = response.getException();
+        if (itemResponse != null) {
+            resultMap.put("statusCode", itemResponse.getStatusCode());
+            resultMap.put("requestCharge", itemResponse.getRequestCharge());
+            resultMap.put("etag", itemResponse.getETag());
+            if (itemResponse.isSuccessStatusCode()) {
+                BallerinaDocument item = itemResponse.getItem(BallerinaDocument.class);
+                if (item != null) {
+                    resultMap.put("item", item.getValue());
+                }
+            }
+        } else if (exception instanceof CosmosException) {
+            resultMap.put("statusCode", ((CosmosException) exception).getStatusCode());
+            resultMap.put("requestCharge", ((CosmosException) exception).getRequestCharge());
+        } else {
+            resultMap.put("statusCode", 0);
+            resultMap.put("requestCharge", 0.0);
+        }
+        if (exception != null) {
+            resultMap.put("errorMessage", exception.getMessage());
+        }
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), ITEM_OPERATION_RESULT, resultMap);
+    }
+
+    /**
+     * Creates a `cosmosdb:TransactionalBatchResponse` record from the response of a transactional batch.
+     *
+     * @param response Response of the transactional batch
+     * @return The `cosmosdb:TransactionalBatchResponse` record
+     */
+    static Object createBatchResponse(CosmosBatchResponse response) {
+        Map<String, Object> responseMap = new HashMap<>();
+        responseMap.put("activityId", response.getActivityId());
+        responseMap.put("statusCode", response.getStatusCode());
+        responseMap.put("isSuccessStatusCode", response.isSuccessStatusCode());
+        responseMap.put("requestCharge", response.getRequestCharge());
+        responseMap.put("sessionToken", response.getSessionToken());
+        if (response.getErrorMessage() != null) {
+            responseMap.put("errorMessage", response.getErrorMessage());
+        }
+        responseMap.put("duration", response.getDuration().toMillis());
+        if (response.getDiagnostics() != null) {
+            responseMap.put("diagnostics", Utils.createDiagnosticsRecord(response.getDiagnostics()));
+        }
+        BMap<BString, Object> batchResponse = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                TRANSACTIONAL_BATCH_RESPONSE, responseMap);
+        RecordType responseType = (RecordType) TypeUtils.getType(batchResponse);
+        BArray results = ValueCreator.createArrayValue((ArrayType) TypeUtils.getReferredType(
+                responseType.getFields().get(RESULTS).getFieldType()));
+        List<CosmosBatchOperationResult> operationResults = response.getResults();
+        for (int i = 0; i < operationResults.size(); i++) {
+            results.append(createBatchOperationResult(operationResults.get(i), i));
+        }
+        batchResponse.put(fromString(RESULTS), results);
+        return batchResponse;
+    }
+
+    private static BMap<BString, Object> createBatchOperationResult(CosmosBatchOperationResult result, long index) {
+        CosmosItemOperation operation = result.getOperation();
+        Map<String, Object> resultMap = new HashMap<>();
+        resultMap.put("index", index);
+        resultMap.put("operationType", getOperationType(operation.getOperationType()));
+        if (operation.getId() != null) {
+            resultMap.put("id", operation.getId());
+        }
+        resultMap.put("statusCode", result.getStatusCode());
+        resultMap.put("requestCharge", result.getRequestCharge());
+        resultMap.put("etag", result.getETag());
+        if (result.isSuccessStatusCode()) {
+            BallerinaDocument item = result.getItem(BallerinaDocument.class);
+            if (item != null) {
+                resultMap.put("item", item.getValue());
+            }
+        }
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), ITEM_OPERATION_RESULT, resultMap);
+    }
+
+    static BallerinaDocument getDocument(BMap<BString, Object> operation, String id) {
+        if (!operation.containsKey(DOCUMENT)) {
+            throw new IllegalArgumentException("A document is required for a " +
+                    operation.getStringValue(OPERATION_TYPE) + " operation");
+        }
+        return new BallerinaDocument(operation.get(DOCUMENT), id);
+    }
+
+    static String getId(BMap<BString, Object> operation, String id) {
+        if (id == null) {
+            throw new IllegalArgumentException("A document ID is required for a " +
+                    operation.getStringValue(OPERATION_TYPE) + " operation");
+        }
+        return id;
+    }
+
+    static CosmosPatchOperations getPatchOperations(BMap<BString, Object> operation) {
+        if (!operation.containsKey(PATCH_OPERATIONS)) {
+            throw new IllegalArgumentException("Patch operations are required for a Patch operation");
+        }
+        return createPatchOperations(operation.getArrayValue(PATCH_OPERATIONS));
+    }
+
+    static String getOperationType(CosmosItemOperationType operationType) {
+        switch (operationType) {
+            case CREATE:
+                return CREATE_OPERATION;
+            case UPSERT:
+                return UPSERT_OPERATION;
+            case REPLACE:
+                return REPLACE_OPERATION;
+            case DELETE:
+                return DELETE_OPERATION;
+            case READ:
+                return READ_OPERATION;
+            default:
+                return PATCH_OPERATION;
+        }
+    }
+}
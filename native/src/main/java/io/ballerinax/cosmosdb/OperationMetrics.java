@@ -0,0 +1,231 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerinax.cosmosdb;
+
+import com.azure.core.util.Context;
+import com.azure.cosmos.CosmosDiagnosticsContext;
+import com.azure.cosmos.CosmosDiagnosticsHandler;
+import com.azure.cosmos.models.CosmosClientTelemetryConfig;
+import com.azure.cosmos.models.CosmosMicrometerMetricsOptions;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import io.ballerina.runtime.observability.metrics.Tag;
+import io.micrometer.core.instrument.Metrics;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static io.ballerinax.cosmosdb.Constants.MICROMETER_ENABLED;
+import static io.ballerinax.cosmosdb.Constants.SAMPLING_RATE;
+
+/**
+ * Records the metrics of the operations of the clients in the Ballerina observability metrics, tagged with the
+ * operation, resource type, database and container. The dataplane operations are recorded from the diagnostics of
+ * the Cosmos DB SDK, and the management operations from the responses of the REST API. Nothing is recorded unless
+ * metrics are enabled for the program.
+ */
+public final class OperationMetrics implements CosmosDiagnosticsHandler {
+
+    private static final String OPERATIONS = "cosmosdb_operations_total";
+    private static final String LATENCY = "cosmosdb_operation_latency_seconds";
+    private static final String REQUEST_CHARGE = "cosmosdb_request_charge";
+    private static final String THROTTLED_OPERATIONS = "cosmosdb_throttled_operations_total";
+    private static final String RETRIES = "cosmosdb_retries_total";
+    private static final String REQUEST_SIZE = "cosmosdb_request_size_bytes";
+    private static final String RESPONSE_SIZE = "cosmosdb_response_size_bytes";
+    private static final String REGION_OPERATIONS = "cosmosdb_region_operations_total";
+    private static final String STREAM_BUFFERED_RESULTS = "cosmosdb_stream_buffered_results";
+    private static final String STREAM_STALL_TIME = "cosmosdb_stream_stall_seconds";
+
+    private static final String TAG_OPERATION = "operation";
+    private static final String TAG_RESOURCE_TYPE = "resource_type";
+    private static final String TAG_DATABASE = "database";
+    private static final String TAG_CONTAINER = "container";
+    private static final String TAG_STATUS_CODE = "status_code";
+    private static final String TAG_REGION = "region";
+
+    private static final int STATUS_TOO_MANY_REQUESTS = 429;
+    private static final StatisticConfig STATISTIC_CONFIG = StatisticConfig.builder()
+            .expiry(Duration.ofMinutes(10))
+            .buckets(5)
+            .percentiles(0.5, 0.75, 0.95, 0.99, 0.999)
+            .build();
+
+    private OperationMetrics() {
+    }
+
+    /**
+     * Creates the telemetry configuration of a Cosmos DB client, which records the metrics of its operations.
+     *
+     * @param metricsConfig The `cosmosdb:MetricsConfig` record
+     * @return The telemetry configuration
+     */
+    static CosmosClientTelemetryConfig createTelemetryConfig(BMap<BString, Object> metricsConfig) {
+        // The SDK applies the sampling rate before the diagnostics are handed over, so unsampled operations cost
+        // nothing more than a random number.
+        CosmosClientTelemetryConfig telemetryConfig = new CosmosClientTelemetryConfig()
+                .diagnosticsHandler(new OperationMetrics())
+                .sampleDiagnostics(metricsConfig.getFloatValue(SAMPLING_RATE));
+        if (metricsConfig.getBooleanValue(MICROMETER_ENABLED)) {
+            telemetryConfig.metricsOptions(new CosmosMicrometerMetricsOptions().meterRegistry(Metrics.globalRegistry));
+        }
+        return telemetryConfig;
+    }
+
+    @Override
+    public void handleDiagnostics(CosmosDiagnosticsContext context, Context traceContext) {
+        if (!ObserveUtils.isMetricsEnabled() || !context.isCompleted()) {
+            return;
+        }
+        Duration duration = context.getDuration();
+        record(context.getOperationType(), context.getResourceType(), context.getDatabaseName(),
+                context.getContainerName(), context.getStatusCode(),
+                duration == null ? 0 : duration.toNanos() / 1e9, context.getTotalRequestCharge(),
+                context.getRetryCount(), context.getMaxRequestPayloadSizeInBytes(),
+                context.getMaxResponsePayloadSizeInBytes(), context.getContactedRegionNames());
+    }
+
+    /**
+     * Decides whether the metrics of a management operation are recorded.
+     *
+     * @param samplingRate Fraction of the operations whose metrics are recorded
+     * @return `true` if metrics are enabled and the operation is sampled
+     */
+    public static boolean isSampled(double samplingRate) {
+        return ObserveUtils.isMetricsEnabled() &&
+                (samplingRate >= 1 || ThreadLocalRandom.current().nextDouble() < samplingRate);
+    }
+
+    /**
+     * Records the metrics of a management operation.
+     *
+     * @param operation     HTTP method of the request
+     * @param resourceType  Type of the resource the request is made on
+     * @param databaseId    ID of the database, or `null` for account level requests
+     * @param containerId   ID of the container, or `null` for requests above the container level
+     * @param statusCode    Status code of the response, or 0 if no response was received
+     * @param latency       Duration of the request, including its retries (in seconds)
+     * @param requestCharge Request units consumed by the request
+     * @param retries       Number of times the request was retried
+     * @param requestSize   Size of the request payload (in bytes)
+     * @param responseSize  Size of the response payload (in bytes)
+     */
+    public static void recordManagementOperation(BString operation, BString resourceType, Object databaseId,
+                                                 Object containerId, long statusCode, double latency,
+                                                 double requestCharge, long retries, long requestSize,
+                                                 long responseSize) {
+        record(operation.getValue(), resourceType.getValue(), databaseId == null ? null : databaseId.toString(),
+                containerId == null ? null : containerId.toString(), (int) statusCode, latency, requestCharge,
+                (int) retries, requestSize, responseSize, Collections.emptySet());
+    }
+
+    /**
+     * Creates the metrics of a stream of results.
+     *
+     * @param operation   Name of the operation which returned the stream
+     * @param databaseId  ID of the database
+     * @param containerId ID of the container
+     * @return The metrics, or `null` if metrics are not enabled for the program
+     */
+    static StreamMetrics createStreamMetrics(String operation, String databaseId, String containerId) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return null;
+        }
+        Set<Tag> tags = new HashSet<>();
+        tags.add(new Tag(TAG_OPERATION, operation));
+        tags.add(new Tag(TAG_DATABASE, databaseId));
+        tags.add(new Tag(TAG_CONTAINER, containerId));
+        MetricRegistry registry = DefaultMetricRegistry.getInstance();
+        return new StreamMetrics(registry.gauge(new MetricId(STREAM_BUFFERED_RESULTS,
+                "Results buffered by the streams when a page is received", tags), STATISTIC_CONFIG),
+                registry.gauge(new MetricId(STREAM_STALL_TIME,
+                        "Time the consumers of the streams waited for a page", tags), STATISTIC_CONFIG));
+    }
+
+    private static void record(String operation, String resourceType, String databaseId, String containerId,
+                               int statusCode, double latency, double requestCharge, int retries, long requestSize,
+                               long responseSize, Collection<String> regions) {
+        MetricRegistry registry = DefaultMetricRegistry.getInstance();
+        Set<Tag> tags = new HashSet<>();
+        tags.add(new Tag(TAG_OPERATION, operation));
+        tags.add(new Tag(TAG_RESOURCE_TYPE, resourceType));
+        if (databaseId != null) {
+            tags.add(new Tag(TAG_DATABASE, databaseId));
+        }
+        if (containerId != null) {
+            tags.add(new Tag(TAG_CONTAINER, containerId));
+        }
+        registry.gauge(new MetricId(LATENCY, "Latency of the operations", tags), STATISTIC_CONFIG)
+                .setValue(latency);
+        registry.gauge(new MetricId(REQUEST_CHARGE, "Request units consumed by the operations", tags),
+                STATISTIC_CONFIG).setValue(requestCharge);
+        registry.gauge(new MetricId(REQUEST_SIZE, "Size of the request payloads", tags), STATISTIC_CONFIG)
+                .setValue(requestSize);
+        registry.gauge(new MetricId(RESPONSE_SIZE, "Size of the response payloads", tags), STATISTIC_CONFIG)
+                .setValue(responseSize);
+        if (retries > 0) {
+            registry.counter(new MetricId(RETRIES, "Number of requests retried by the client", tags))
+                    .increment(retries);
+        }
+        if (statusCode == STATUS_TOO_MANY_REQUESTS) {
+            registry.counter(new MetricId(THROTTLED_OPERATIONS, "Number of operations throttled by the service",
+                    tags)).increment();
+        }
+        for (String region : regions) {
+            Set<Tag> regionTags = new HashSet<>(tags);
+            regionTags.add(new Tag(TAG_REGION, region));
+            registry.counter(new MetricId(REGION_OPERATIONS, "Number of operations which contacted a region",
+                    regionTags)).increment();
+        }
+        tags.add(new Tag(TAG_STATUS_CODE, Integer.toString(statusCode)));
+        registry.counter(new MetricId(OPERATIONS, "Number of operations", tags)).increment();
+    }
+
+    /**
+     * Metrics of a stream of results, which show whether the consumer of the stream outpaces the fetching of pages.
+     */
+    static final class StreamMetrics {
+
+        private final Gauge bufferedResults;
+        private final Gauge stallTime;
+
+        private StreamMetrics(Gauge bufferedResults, Gauge stallTime) {
+            this.bufferedResults = bufferedResults;
+            this.stallTime = stallTime;
+        }
+
+        void recordBufferedItems(int count) {
+            bufferedResults.setValue(count);
+        }
+
+        void recordStallTime(long nanos) {
+            stallTime.setValue(nanos / 1e9);
+        }
+    }
+}
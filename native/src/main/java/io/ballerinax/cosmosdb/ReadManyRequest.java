@@ -0,0 +1,132 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerinax.cosmosdb;
+
+import com.azure.cosmos.CosmosAsyncContainer;
+import com.azure.cosmos.models.CosmosItemIdentity;
+import com.azure.cosmos.models.FeedResponse;
+import com.azure.cosmos.models.PartitionKey;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.ballerinax.cosmosdb.Constants.ID;
+import static io.ballerinax.cosmosdb.Constants.ITEM_PARTITION_KEY;
+
+/**
+ * Reads a set of documents, identified by their IDs and partition key values, with a single `readMany` request and
+ * lays out the documents in the order of the given identities. Documents which do not exist are left as `()`.
+ */
+final class ReadManyRequest {
+
+    private final List<CosmosItemIdentity> identities;
+    private final List<CosmosItemIdentity> distinctIdentities;
+    private final Map<String, List<Integer>> positionsById = new HashMap<>();
+    private final boolean ambiguousIds;
+
+    ReadManyRequest(BArray documentIdentities) {
+        int size = documentIdentities.size();
+        this.identities = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            BMap<BString, Object> identity = (BMap<BString, Object>) documentIdentities.get(i);
+            String id = identity.getStringValue(ID).getValue();
+            identities.add(new CosmosItemIdentity(Utils.createPartitionKey(identity.get(ITEM_PARTITION_KEY)), id));
+            positionsById.computeIfAbsent(id, key -> new ArrayList<>()).add(i);
+        }
+        Set<CosmosItemIdentity> distinct = new LinkedHashSet<>(identities);
+        this.distinctIdentities = new ArrayList<>(distinct);
+        this.ambiguousIds = distinct.size() > positionsById.size();
+    }
+
+    /**
+     * Reads the documents.
+     *
+     * @param container        Container of the documents
+     * @param partitionKeyPath Partition key path of the container, which is read only if an ID is given with several
+     *                         partition keys
+     * @param sessionToken     Session token of the request, or `null`
+     * @param recordType       Type of the records to which the documents are converted
+     * @return The array of records in the order of the identities, or an error
+     */
+    Mono<Object> execute(CosmosAsyncContainer container, Mono<String> partitionKeyPath, String sessionToken,
+                         RecordType recordType) {
+        if (identities.isEmpty()) {
+            return Mono.just(createResults(new ArrayList<>(), null, recordType));
+        }
+        Mono<FeedResponse<JsonNode>> documents = sessionToken == null ?
+                container.readMany(distinctIdentities, JsonNode.class) :
+                container.readMany(distinctIdentities, sessionToken, JsonNode.class);
+        if (!ambiguousIds) {
+            return documents.map(response -> createResults(response.getResults(), null, recordType));
+        }
+        // The same ID is used in several partitions, hence the partition key of each document tells them apart.
+        return partitionKeyPath.zipWith(documents)
+                .map(result -> createResults(result.getT2().getResults(), result.getT1(), recordType));
+    }
+
+    private Object createResults(List<JsonNode> documents, String partitionKeyPath, RecordType recordType) {
+        Object[] results = new Object[identities.size()];
+        for (JsonNode document : documents) {
+            List<Integer> positions = positionsById.get(document.path("id").asText());
+            if (positions == null) {
+                continue;
+            }
+            for (int position : positions) {
+                if (partitionKeyPath != null &&
+                        !getPartitionKey(document, partitionKeyPath).equals(
+                                identities.get(position).getPartitionKey())) {
+                    continue;
+                }
+                Object result = RecordIteratorUtils.createRecord(document, recordType);
+                if (result instanceof BError) {
+                    return result;
+                }
+                results[position] = result;
+            }
+        }
+        return ValueCreator.createArrayValue(results, TypeCreator.createArrayType(
+                TypeCreator.createUnionType(recordType, PredefinedTypes.TYPE_NULL)));
+    }
+
+    private static PartitionKey getPartitionKey(JsonNode document, String partitionKeyPath) {
+        JsonNode value = document.at(partitionKeyPath);
+        if (value.isNumber()) {
+            return new PartitionKey(value.asDouble());
+        } else if (value.isTextual()) {
+            return new PartitionKey(value.asText());
+        } else if (value.isBoolean()) {
+            return new PartitionKey(value.asBoolean());
+        }
+        return PartitionKey.NONE;
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerinax.cosmosdb;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import org.ballerinalang.langlib.value.FromJsonWithType;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+
+/**
+ * Builds Ballerina records directly from the JSON trees returned by the Cosmos DB SDK.
+ * <p>
+ * The field mapping of a record type is computed once and cached. Values whose target type is not handled here, and
+ * records which cannot be built field by field (for example, when a required field is missing), are converted with
+ * `value:fromJsonWithType` so that the result and the errors are the same as those of the language library.
+ */
+final class RecordDecoder {
+
+    private static final MapType JSON_MAP_TYPE = TypeCreator.createMapType(PredefinedTypes.TYPE_JSON);
+    private static final ArrayType JSON_ARRAY_TYPE = TypeCreator.createArrayType(PredefinedTypes.TYPE_JSON);
+    private static final Object UNCONVERTED = new Object();
+    private static final Map<RecordType, RecordPlan> RECORD_PLANS = new ConcurrentHashMap<>();
+
+    private RecordDecoder() {
+    }
+
+    /**
+     * Creates a record of the given type from a JSON tree.
+     *
+     * @param node       JSON tree of the document
+     * @param recordType Type of the record to create
+     * @return The record, or an error if the document cannot be converted to the record type
+     */
+    static Object decode(JsonNode node, RecordType recordType) {
+        RecordPlan plan = RECORD_PLANS.computeIfAbsent(recordType, RecordPlan::new);
+        Object record = plan.decode(node);
+        return record == UNCONVERTED ? FromJsonWithType.fromJsonWithType(toJson(node), plan.typedesc) : record;
+    }
+
+    /**
+     * Creates a Ballerina `json` value from a JSON tree. Integral numbers become `int` values and other numbers
+     * become `decimal` values, as with `value:fromJsonString`.
+     *
+     * @param node JSON tree
+     * @return The Ballerina `json` value
+     */
+    static Object toJson(JsonNode node) {
+        switch (node.getNodeType()) {
+            case OBJECT:
+                BMap<BString, Object> map = ValueCreator.createMapValue(JSON_MAP_TYPE);
+                Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    map.put(fromString(field.getKey()), toJson(field.getValue()));
+                }
+                return map;
+            case ARRAY:
+                BArray array = ValueCreator.createArrayValue(JSON_ARRAY_TYPE);
+                for (JsonNode element : node) {
+                    array.append(toJson(element));
+                }
+                return array;
+            case STRING:
+                return fromString(node.textValue());
+            case NUMBER:
+                if (node.isIntegralNumber() && node.canConvertToLong()) {
+                    return node.longValue();
+                }
+                return ValueCreator.createDecimalValue(node.decimalValue());
+            case BOOLEAN:
+                return node.booleanValue();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Converts a JSON tree to a value of the given type, or returns {@link #UNCONVERTED} if the conversion is not
+     * handled here.
+     */
+    private static Object convert(JsonNode node, Type type) {
+        Type referredType = TypeUtils.getReferredType(type);
+        switch (referredType.getTag()) {
+            case TypeTags.STRING_TAG:
+                return node.isTextual() ? fromString(node.textValue()) : UNCONVERTED;
+            case TypeTags.INT_TAG:
+                return node.isIntegralNumber() && node.canConvertToLong() ? node.longValue() : UNCONVERTED;
+            case TypeTags.FLOAT_TAG:
+                return node.isNumber() ? node.doubleValue() : UNCONVERTED;
+            case TypeTags.DECIMAL_TAG:
+                return node.isNumber() ? ValueCreator.createDecimalValue(node.decimalValue()) : UNCONVERTED;
+            case TypeTags.BOOLEAN_TAG:
+                return node.isBoolean() ? node.booleanValue() : UNCONVERTED;
+            case TypeTags.NULL_TAG:
+                return node.isNull() ? null : UNCONVERTED;
+            case TypeTags.JSON_TAG:
+            case TypeTags.ANYDATA_TAG:
+                return referredType.isReadOnly() ? UNCONVERTED : toJson(node);
+            case TypeTags.MAP_TAG:
+                return convertMap(node, (MapType) referredType);
+            case TypeTags.ARRAY_TAG:
+                return convertArray(node, (ArrayType) referredType);
+            case TypeTags.RECORD_TYPE_TAG:
+                return RECORD_PLANS.computeIfAbsent((RecordType) referredType, RecordPlan::new).decode(node);
+            case TypeTags.UNION_TAG:
+                return convertOptional(node, (UnionType) referredType);
+            default:
+                return UNCONVERTED;
+        }
+    }
+
+    private static Object convertMap(JsonNode node, MapType mapType) {
+        int constraintTag = TypeUtils.getReferredType(mapType.getConstrainedType()).getTag();
+        if (!node.isObject() || mapType.isReadOnly() ||
+                (constraintTag != TypeTags.JSON_TAG && constraintTag != TypeTags.ANYDATA_TAG)) {
+            return UNCONVERTED;
+        }
+        return toJson(node);
+    }
+
+    private static Object convertArray(JsonNode node, ArrayType arrayType) {
+        if (!node.isArray() || arrayType.isReadOnly() || arrayType.getSize() != -1) {
+            return UNCONVERTED;
+        }
+        Type elementType = arrayType.getElementType();
+        BArray array = ValueCreator.createArrayValue(arrayType);
+        for (JsonNode element : node) {
+            Object value = convert(element, elementType);
+            if (value == UNCONVERTED) {
+                return UNCONVERTED;
+            }
+            array.append(value);
+        }
+        return array;
+    }
+
+    /**
+     * Converts values of optional types such as `string?`. Other union types are left to the language library.
+     */
+    private static Object convertOptional(JsonNode node, UnionType unionType) {
+        List<Type> memberTypes = unionType.getMemberTypes();
+        if (memberTypes.size() != 2) {
+            return UNCONVERTED;
+        }
+        Type first = memberTypes.get(0);
+        Type second = memberTypes.get(1);
+        if (TypeUtils.getReferredType(second).getTag() == TypeTags.NULL_TAG) {
+            return node.isNull() ? null : convert(node, first);
+        }
+        if (TypeUtils.getReferredType(first).getTag() == TypeTags.NULL_TAG) {
+            return node.isNull() ? null : convert(node, second);
+        }
+        return UNCONVERTED;
+    }
+
+    /**
+     * Field mapping of a record type.
+     */
+    private static class RecordPlan {
+
+        private final RecordType recordType;
+        private final BTypedesc typedesc;
+        private final Map<String, FieldPlan> fields = new HashMap<>();
+        private final int requiredFieldCount;
+        private final boolean decodable;
+
+        RecordPlan(RecordType recordType) {
+            this.recordType = recordType;
+            this.typedesc = ValueCreator.createTypedescValue(recordType);
+            int requiredFields = 0;
+            boolean readonlyFields = false;
+            for (Field field : recordType.getFields().values()) {
+                boolean required = SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.REQUIRED);
+                readonlyFields |= SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.READONLY);
+                fields.put(field.getFieldName(), new FieldPlan(fromString(field.getFieldName()),
+                        field.getFieldType(), required));
+                if (required) {
+                    requiredFields++;
+                }
+            }
+            this.requiredFieldCount = requiredFields;
+            // Field defaults are only populated for named records, so other records are left to the language
+            // library, as are records whose values have to be immutable.
+            this.decodable = !recordType.isReadOnly() && !readonlyFields && recordType.getPackage() != null &&
+                    recordType.getName() != null && !recordType.getName().isEmpty() &&
+                    !recordType.getName().startsWith("$");
+        }
+
+        Object decode(JsonNode node) {
+            if (!decodable || !node.isObject()) {
+                return UNCONVERTED;
+            }
+            BMap<BString, Object> record = ValueCreator.createRecordValue(recordType.getPackage(),
+                    recordType.getName());
+            Type restFieldType = recordType.isSealed() ? null : recordType.getRestFieldType();
+            int requiredFields = 0;
+            Iterator<Map.Entry<String, JsonNode>> documentFields = node.fields();
+            while (documentFields.hasNext()) {
+                Map.Entry<String, JsonNode> documentField = documentFields.next();
+                FieldPlan field = fields.get(documentField.getKey());
+                Object value;
+                if (field != null) {
+                    value = convert(documentField.getValue(), field.type);
+                    if (field.required) {
+                        requiredFields++;
+                    }
+                } else if (restFieldType != null) {
+                    value = convert(documentField.getValue(), restFieldType);
+                } else {
+                    return UNCONVERTED;
+                }
+                if (value == UNCONVERTED) {
+                    return UNCONVERTED;
+                }
+                record.put(field != null ? field.key : fromString(documentField.getKey()), value);
+            }
+            return requiredFields == requiredFieldCount ? record : UNCONVERTED;
+        }
+    }
+
+    private static class FieldPlan {
+
+        private final BString key;
+        private final Type type;
+        private final boolean required;
+
+        FieldPlan(BString key, Type type, boolean required) {
+            this.key = key;
+            this.type = type;
+            this.required = required;
+        }
+    }
+}
@@ -19,18 +19,14 @@
 package io.ballerinax.cosmosdb;
 
 import com.azure.cosmos.models.CosmosStoredProcedureProperties;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import io.ballerina.runtime.api.PredefinedTypes;
-import io.ballerina.runtime.api.creators.TypeCreator;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.RecordType;
-import io.ballerina.runtime.api.types.UnionType;
 import io.ballerina.runtime.api.values.BObject;
-import io.ballerina.runtime.api.values.BTypedesc;
-import org.ballerinalang.langlib.value.FromJsonStringWithType;
+import io.ballerina.runtime.api.values.BStream;
 
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
 
 import static io.ballerina.runtime.api.utils.StringUtils.fromString;
@@ -41,35 +37,41 @@ import static io.ballerinax.cosmosdb.Constants.STORED_PROCEDURE;
  */
 public class RecordIteratorUtils {
 
-    public static Object nextResult(BObject recordIterator) {
-        RecordType targetType = (RecordType) recordIterator.getNativeData(Constants.RECORD_TYPE);
-        if (targetType.getName().equals(STORED_PROCEDURE)) {
-            Iterator<CosmosStoredProcedureProperties> results = (Iterator<CosmosStoredProcedureProperties>)
-                    recordIterator.getNativeData(Constants.OBJECT_ITERATOR);
-            if (results.hasNext()) {
-                Map<String, Object> objectMap = new HashMap<>();
-                CosmosStoredProcedureProperties next = results.next();
-                objectMap.put("storedProcedure", fromString(next.getBody()));
-                objectMap.put("id", fromString(next.getId()));
-                objectMap.put("eTag", next.getETag());
-                return ValueCreator.createRecordValue(ModuleUtils.getModule(), targetType.getName(), objectMap);
-            }
-            return null;
-        } else {
-            Iterator<Object> results = (Iterator<Object>) recordIterator.getNativeData(Constants.OBJECT_ITERATOR);
-            if (results.hasNext()) {
-                try {
-                    String result = new ObjectMapper().writeValueAsString(results.next());
-                    RecordType recordType = (RecordType) recordIterator.getNativeData(Constants.RECORD_TYPE);
-                    UnionType responseType = TypeCreator.createUnionType(recordType, PredefinedTypes.TYPE_ERROR,
-                            PredefinedTypes.TYPE_NULL);
-                    BTypedesc responseTypedescValue = ValueCreator.createTypedescValue(responseType);
-                    return FromJsonStringWithType.fromJsonStringWithType(fromString(result), responseTypedescValue);
-                } catch (Exception e) {
-                    return BallerinaErrorGenerator.createBallerinaDatabaseError(e);
-                }
-            }
+    public static Object nextResult(Environment env, BObject recordIterator) {
+        ResultCursor<?> cursor = (ResultCursor<?>) recordIterator.getNativeData(Constants.RESULT_CURSOR);
+        return cursor.next(env);
+    }
+
+    public static Object closeResult(BObject recordIterator) {
+        Object cursor = recordIterator.getNativeData(Constants.RESULT_CURSOR);
+        if (cursor instanceof ResultCursor) {
+            ((ResultCursor<?>) cursor).close();
+        }
+        return null;
+    }
+
+    public static Object getContinuationToken(BStream results) {
+        Object cursor = results.getIteratorObj().getNativeData(Constants.RESULT_CURSOR);
+        if (!(cursor instanceof ResultCursor)) {
             return null;
         }
+        String continuationToken = ((ResultCursor<?>) cursor).getContinuationToken();
+        return continuationToken == null ? null : fromString(continuationToken);
+    }
+
+    static Object createStoredProcedureRecord(CosmosStoredProcedureProperties storedProcedure) {
+        Map<String, Object> objectMap = new HashMap<>();
+        objectMap.put("storedProcedure", fromString(storedProcedure.getBody()));
+        objectMap.put("id", fromString(storedProcedure.getId()));
+        objectMap.put("eTag", storedProcedure.getETag());
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), STORED_PROCEDURE, objectMap);
+    }
+
+    static Object createRecord(JsonNode item, RecordType recordType) {
+        try {
+            return RecordDecoder.decode(item, recordType);
+        } catch (Exception e) {
+            return BallerinaErrorGenerator.createBallerinaDatabaseError(e);
+        }
     }
 }
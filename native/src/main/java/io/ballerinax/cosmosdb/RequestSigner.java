@@ -0,0 +1,170 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerinax.cosmosdb;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.Locale;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Signs the requests of a management client. A master key is decoded once per client, and each thread reuses its own
+ * {@link Mac} initialized with the key. A resource token is sent as it is, hence it is encoded only once.
+ * <p>
+ * The date of a request has a precision of a second, so the date header is formatted at most once per second and
+ * shared by all the requests signed within that second.
+ */
+public final class RequestSigner {
+
+    private static final String HMAC_SHA256 = "HmacSHA256";
+    private static final String TOKEN_TYPE_RESOURCE = "resource";
+    private static final String MASTER_TOKEN_PREFIX = URLEncoder.encode("type=master&ver=1.0&sig=",
+            StandardCharsets.UTF_8);
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter
+            .ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US)
+            .withZone(ZoneOffset.UTC);
+
+    private static volatile RequestDate requestDate = new RequestDate(System.currentTimeMillis() / 1000);
+
+    private final BString resourceToken;
+    private final ThreadLocal<Mac> macs;
+    private final String keyError;
+
+    private RequestSigner(BString resourceToken, ThreadLocal<Mac> macs, String keyError) {
+        this.resourceToken = resourceToken;
+        this.macs = macs;
+        this.keyError = keyError;
+    }
+
+    /**
+     * Creates the signer of a management client.
+     *
+     * @param token The primary key or resource token of the client
+     * @return The signer
+     */
+    public static RequestSigner createSigner(BString token) {
+        String value = token.getValue();
+        if (value.contains(TOKEN_TYPE_RESOURCE)) {
+            return new RequestSigner(StringUtils.fromString(URLEncoder.encode(value, StandardCharsets.UTF_8)), null,
+                    null);
+        }
+        SecretKeySpec key;
+        try {
+            key = new SecretKeySpec(Base64.getDecoder().decode(value), HMAC_SHA256);
+        } catch (IllegalArgumentException e) {
+            // The error is reported when a request is signed, as the client used to do.
+            return new RequestSigner(null, null, e.getMessage());
+        }
+        return new RequestSigner(null, ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(HMAC_SHA256);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }), null);
+    }
+
+    /**
+     * Returns the date header of a request made now.
+     *
+     * @return The date in the RFC 1123 format
+     */
+    public static BString getRequestDate() {
+        long epochSecond = System.currentTimeMillis() / 1000;
+        RequestDate date = requestDate;
+        if (date.epochSecond != epochSecond) {
+            date = new RequestDate(epochSecond);
+            requestDate = date;
+        }
+        return date.header;
+    }
+
+    /**
+     * Creates the authorization header of a request.
+     *
+     * @param signer       The signer of the client
+     * @param verb         HTTP verb of the request
+     * @param resourceType Type of the resource the request is made on, such as `dbs` or `colls`
+     * @param resourceId   ID of the resource the request is made on
+     * @param date         Date header of the request, returned by {@link #getRequestDate()}
+     * @return The authorization header, or an error if the master key is invalid
+     */
+    public static Object sign(RequestSigner signer, BString verb, BString resourceType, BString resourceId,
+                              BString date) {
+        if (signer.resourceToken != null) {
+            return signer.resourceToken;
+        }
+        if (signer.keyError != null) {
+            return BallerinaErrorGenerator.createBallerinaDatabaseError(new IllegalArgumentException(signer.keyError));
+        }
+        RequestDate cachedDate = requestDate;
+        String lowerCaseDate = cachedDate.header == date ? cachedDate.lowerCaseHeader :
+                date.getValue().toLowerCase(Locale.ROOT);
+        String payload = verb.getValue().toLowerCase(Locale.ROOT) + '\n' +
+                resourceType.getValue().toLowerCase(Locale.ROOT) + '\n' + resourceId.getValue() + '\n' +
+                lowerCaseDate + "\n\n";
+        byte[] digest = signer.macs.get().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        String signature = Base64.getEncoder().encodeToString(digest);
+        StringBuilder header = new StringBuilder(MASTER_TOKEN_PREFIX.length() + signature.length() + 8)
+                .append(MASTER_TOKEN_PREFIX);
+        // A Base64 signature needs only its '+', '/' and '=' characters to be encoded.
+        for (int i = 0; i < signature.length(); i++) {
+            char c = signature.charAt(i);
+            switch (c) {
+                case '+':
+                    header.append("%2B");
+                    break;
+                case '/':
+                    header.append("%2F");
+                    break;
+                case '=':
+                    header.append("%3D");
+                    break;
+                default:
+                    header.append(c);
+            }
+        }
+        return StringUtils.fromString(header.toString());
+    }
+
+    private static final class RequestDate {
+
+        private final long epochSecond;
+        private final BString header;
+        private final String lowerCaseHeader;
+
+        private RequestDate(long epochSecond) {
+            String formatted = DATE_FORMATTER.format(Instant.ofEpochSecond(epochSecond));
+            this.epochSecond = epochSecond;
+            this.header = StringUtils.fromString(formatted);
+            this.lowerCaseHeader = formatted.toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerinax.cosmosdb;
+
+import com.azure.cosmos.models.FeedResponse;
+import com.azure.cosmos.util.CosmosPagedFlux;
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Pulls pages of results, such as the pages of a {@link com.azure.cosmos.util.CosmosPagedFlux}, and hands over the
+ * results to a Ballerina stream. When no result is buffered, the strand which asked for the next result is suspended
+ * until the next page arrives. For pages of a {@link CosmosPagedFlux}, the cursor also tracks the continuation token
+ * of the last page whose results were all handed over, so that a consumer can resume from there.
+ * <p>
+ * Without a {@link Prefetch}, a page is requested only when the consumer runs out of buffered results. With one, the
+ * pages which follow are requested while the consumer processes the buffered results, until the buffer holds the
+ * configured number of pages or results, so that fetching overlaps with processing.
+ *
+ * @param <T> Type of the items in a page
+ */
+public class ResultCursor<T> extends BaseSubscriber<List<T>> {
+
+    private final Function<T, Object> recordMapper;
+    private final int maxPages;
+    private final int maxItems;
+    private final OperationMetrics.StreamMetrics metrics;
+    private final Deque<T> buffer = new ArrayDeque<>();
+    private final Deque<PageMark> pageMarks = new ArrayDeque<>();
+    private String receivedToken;
+    private String continuationToken;
+    private Future waitingStrand;
+    private long waitStartTime;
+    private int requestedPages;
+    private Throwable failure;
+    private boolean completed;
+    private boolean closed;
+
+    public ResultCursor(Flux<List<T>> pages, Function<T, Object> recordMapper) {
+        this(pages, recordMapper, null, null);
+    }
+
+    public ResultCursor(Flux<List<T>> pages, Function<T, Object> recordMapper, Prefetch prefetch,
+                        OperationMetrics.StreamMetrics metrics) {
+        this.recordMapper = recordMapper;
+        this.maxPages = prefetch == null ? 0 : prefetch.maxPages;
+        this.maxItems = prefetch == null ? 0 : prefetch.maxItems;
+        this.metrics = metrics;
+        pages.subscribe(this);
+    }
+
+    public ResultCursor(CosmosPagedFlux<T> pagedFlux, Function<T, Object> recordMapper, Prefetch prefetch,
+                        OperationMetrics.StreamMetrics metrics) {
+        this.recordMapper = recordMapper;
+        this.maxPages = prefetch == null ? 0 : prefetch.maxPages;
+        this.maxItems = prefetch == null ? 0 : prefetch.maxItems;
+        this.metrics = metrics;
+        pagedFlux.byPage().map(this::receivePage).subscribe(this);
+    }
+
+    /**
+     * Returns the continuation token from which the remaining results can be fetched again.
+     *
+     * @return The continuation token of the last fully consumed page, or `null` if no page has been consumed or no
+     * results are left
+     */
+    public synchronized String getContinuationToken() {
+        return continuationToken;
+    }
+
+    /**
+     * Returns the next result of the stream. If a page has to be fetched, the strand is suspended and resumed with
+     * the result once the page is received.
+     *
+     * @param env Environment of the calling strand
+     * @return The next record, an error or `null` once the results are exhausted
+     */
+    public Object next(Environment env) {
+        T result;
+        int pages;
+        synchronized (this) {
+            result = poll();
+            if (result == null) {
+                if (failure != null) {
+                    return BallerinaErrorGenerator.createBallerinaDatabaseError(failure);
+                }
+                if (completed || closed) {
+                    return null;
+                }
+                waitingStrand = env.markAsync();
+                waitStartTime = System.nanoTime();
+            }
+            pages = claimPages();
+        }
+        if (pages > 0) {
+            request(pages);
+        }
+        return result == null ? null : recordMapper.apply(result);
+    }
+
+    /**
+     * Closes the cursor. The pending page requests are cancelled, the buffered results are dropped and a strand
+     * waiting for a result is resumed as if the results were exhausted. Closing a cursor more than once has no effect.
+     */
+    public void close() {
+        Future strand;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            buffer.clear();
+            pageMarks.clear();
+            strand = waitingStrand;
+            waitingStrand = null;
+        }
+        cancel();
+        if (strand != null) {
+            strand.complete(null);
+        }
+    }
+
+    @Override
+    protected void hookOnSubscribe(Subscription subscription) {
+        int pages;
+        synchronized (this) {
+            pages = claimPages();
+        }
+        if (pages > 0) {
+            request(pages);
+        }
+    }
+
+    @Override
+    protected void hookOnNext(List<T> page) {
+        Future strand = null;
+        T result = null;
+        long waitTime = 0;
+        int pages;
+        int bufferedItems;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            requestedPages--;
+            int count = 0;
+            for (T item : page) {
+                if (item != null) {
+                    buffer.add(item);
+                    count++;
+                }
+            }
+            pageMarks.add(new PageMark(count, receivedToken));
+            releasePages();
+            bufferedItems = buffer.size();
+            if (waitingStrand != null) {
+                result = poll();
+                if (result != null) {
+                    strand = waitingStrand;
+                    waitingStrand = null;
+                    waitTime = System.nanoTime() - waitStartTime;
+                }
+            }
+            // A page can be empty while the query still has more results, hence a waiting strand keeps pulling.
+            pages = claimPages();
+        }
+        if (metrics != null) {
+            metrics.recordBufferedItems(bufferedItems);
+            if (strand != null) {
+                metrics.recordStallTime(waitTime);
+            }
+        }
+        if (pages > 0) {
+            request(pages);
+        }
+        if (strand != null) {
+            strand.complete(recordMapper.apply(result));
+        }
+    }
+
+    @Override
+    protected void hookOnComplete() {
+        Future strand;
+        synchronized (this) {
+            completed = true;
+            strand = waitingStrand;
+            waitingStrand = null;
+        }
+        if (strand != null) {
+            strand.complete(null);
+        }
+    }
+
+    @Override
+    protected void hookOnError(Throwable throwable) {
+        Future strand;
+        synchronized (this) {
+            failure = throwable;
+            strand = waitingStrand;
+            waitingStrand = null;
+        }
+        if (strand != null) {
+            strand.complete(BallerinaErrorGenerator.createBallerinaDatabaseError(throwable));
+        }
+    }
+
+    private List<T> receivePage(FeedResponse<T> response) {
+        // Runs within the same signal as hookOnNext, right before it.
+        receivedToken = response.getContinuationToken();
+        return response.getResults();
+    }
+
+    /**
+     * Decides how many more pages to request, and counts them as requested. Must be called while holding the lock.
+     */
+    private int claimPages() {
+        if (closed || completed || failure != null) {
+            return 0;
+        }
+        int pages = 0;
+        if (buffer.size() < maxItems) {
+            pages = Math.max(0, maxPages - pageMarks.size() - requestedPages);
+        }
+        if (pages == 0 && requestedPages == 0 && waitingStrand != null) {
+            pages = 1;
+        }
+        requestedPages += pages;
+        return pages;
+    }
+
+    private T poll() {
+        T result = buffer.poll();
+        if (result != null) {
+            PageMark mark = pageMarks.peek();
+            if (mark != null) {
+                mark.remaining--;
+            }
+            releasePages();
+        }
+        return result;
+    }
+
+    private void releasePages() {
+        while (!pageMarks.isEmpty() && pageMarks.peek().remaining == 0) {
+            continuationToken = pageMarks.poll().token;
+        }
+    }
+
+    /**
+     * Limits of the results which a cursor fetches ahead of its consumer.
+     */
+    static final class Prefetch {
+
+        private final int maxPages;
+        private final int maxItems;
+
+        Prefetch(int maxPages, int maxItems) {
+            this.maxPages = maxPages;
+            this.maxItems = maxItems;
+        }
+    }
+
+    private static final class PageMark {
+
+        private int remaining;
+        private final String token;
+
+        private PageMark(int remaining, String token) {
+            this.remaining = remaining;
+            this.token = token;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerinax.cosmosdb;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the latest session token of each partition key range of the containers of a client. Session tokens returned
+ * by writes are merged into the tokens already known for their partition key ranges, and the merged token of a
+ * container is applied to the reads on the container which do not set their own. The merged token has the format of
+ * the `x-ms-session-token` header, so it can be propagated to another client, such as a client of another instance of
+ * a service, which then reads the writes made through this client.
+ */
+final class SessionTokenManager {
+
+    private final Map<String, Map<String, RangeToken>> containers = new ConcurrentHashMap<>();
+
+    /**
+     * Merges a session token into the session tokens of a container.
+     *
+     * @param containerKey Database and container ID which identify the container within the client
+     * @param sessionToken A session token in the format of the `x-ms-session-token` header
+     * @throws IllegalArgumentException If the session token is malformed
+     */
+    void merge(String containerKey, String sessionToken) {
+        if (sessionToken == null || sessionToken.isEmpty()) {
+            return;
+        }
+        Map<String, RangeToken> rangeTokens = new LinkedHashMap<>();
+        for (String rangeToken : sessionToken.split(",")) {
+            int separator = rangeToken.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid session token: " + sessionToken);
+            }
+            rangeTokens.merge(rangeToken.substring(0, separator).trim(),
+                    RangeToken.parse(rangeToken.substring(separator + 1).trim(), sessionToken), RangeToken::merge);
+        }
+        Map<String, RangeToken> knownTokens = containers.computeIfAbsent(containerKey,
+                key -> new ConcurrentHashMap<>());
+        rangeTokens.forEach((rangeId, token) -> knownTokens.merge(rangeId, token, RangeToken::merge));
+    }
+
+    /**
+     * Merges the session token of a response into the session tokens of a container. Unlike a token given by the
+     * user, a malformed token of a response is skipped, as it must not fail the request which returned it.
+     *
+     * @param containerKey Database and container ID which identify the container within the client
+     * @param sessionToken Session token of the response
+     */
+    void capture(String containerKey, String sessionToken) {
+        try {
+            merge(containerKey, sessionToken);
+        } catch (IllegalArgumentException e) {
+            // The read which follows falls back to the session token of the SDK.
+        }
+    }
+
+    /**
+     * Returns the merged session token of a container.
+     *
+     * @param containerKey Database and container ID which identify the container within the client
+     * @return The session token, or `null` if no session token is known for the container
+     */
+    String getSessionToken(String containerKey) {
+        Map<String, RangeToken> rangeTokens = containers.get(containerKey);
+        if (rangeTokens == null || rangeTokens.isEmpty()) {
+            return null;
+        }
+        StringJoiner sessionToken = new StringJoiner(",");
+        rangeTokens.forEach((rangeId, token) -> sessionToken.add(rangeId + ":" + token));
+        return sessionToken.toString();
+    }
+
+    /**
+     * Session token of a partition key range, such as `1#100#1=20#2=5` with the version of the partition key range,
+     * the global LSN and the LSN of each region, or a plain LSN such as `100`.
+     */
+    private static final class RangeToken {
+
+        // Version of a plain LSN, which any token with a version supersedes.
+        private static final long NO_VERSION = Long.MIN_VALUE;
+
+        private final long version;
+        private final long globalLsn;
+        private final Map<String, Long> regionLsns;
+
+        private RangeToken(long version, long globalLsn, Map<String, Long> regionLsns) {
+            this.version = version;
+            this.globalLsn = globalLsn;
+            this.regionLsns = regionLsns;
+        }
+
+        private static RangeToken parse(String token, String sessionToken) {
+            try {
+                String[] segments = token.split("#");
+                if (segments.length == 1) {
+                    return new RangeToken(NO_VERSION, Long.parseLong(segments[0]), new LinkedHashMap<>());
+                }
+                Map<String, Long> regionLsns = new LinkedHashMap<>();
+                for (int i = 2; i < segments.length; i++) {
+                    int separator = segments[i].indexOf('=');
+                    if (separator <= 0) {
+                        throw new IllegalArgumentException("Invalid session token: " + sessionToken);
+                    }
+                    regionLsns.put(segments[i].substring(0, separator),
+                            Long.parseLong(segments[i].substring(separator + 1)));
+                }
+                return new RangeToken(Long.parseLong(segments[0]), Long.parseLong(segments[1]), regionLsns);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid session token: " + sessionToken, e);
+            }
+        }
+
+        /**
+         * Merges two tokens of a partition key range. The regions of the token with the higher version are kept, as
+         * regions can be added or removed along with a new version, and each LSN is the higher one of both tokens.
+         */
+        private static RangeToken merge(RangeToken first, RangeToken second) {
+            RangeToken newer = first.version >= second.version ? first : second;
+            RangeToken older = newer == first ? second : first;
+            Map<String, Long> regionLsns = new LinkedHashMap<>(newer.regionLsns);
+            older.regionLsns.forEach((region, lsn) -> regionLsns.computeIfPresent(region,
+                    (key, newerLsn) -> Math.max(newerLsn, lsn)));
+            return new RangeToken(newer.version, Math.max(first.globalLsn, second.globalLsn), regionLsns);
+        }
+
+        @Override
+        public String toString() {
+            if (version == NO_VERSION) {
+                return Long.toString(globalLsn);
+            }
+            StringBuilder token = new StringBuilder().append(version).append('#').append(globalLsn);
+            regionLsns.forEach((region, lsn) -> token.append('#').append(region).append('=').append(lsn));
+            return token.toString();
+        }
+    }
+}
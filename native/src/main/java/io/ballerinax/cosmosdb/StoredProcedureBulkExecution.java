@@ -0,0 +1,153 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerinax.cosmosdb;
+
+import com.azure.cosmos.CosmosAsyncStoredProcedure;
+import com.azure.cosmos.models.CosmosStoredProcedureRequestOptions;
+import com.azure.cosmos.models.CosmosStoredProcedureResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerinax.cosmosdb.Constants.MAX_CHUNK_SIZE;
+import static io.ballerinax.cosmosdb.Constants.PARAMETERS;
+import static io.ballerinax.cosmosdb.Constants.STORED_PROCEDURE_BULK_RESULT;
+
+/**
+ * Feeds a large array of documents to a stored procedure in chunks whose serialized size is bounded. The stored
+ * procedure takes a chunk as its first parameter and responds with the number of documents of the chunk it
+ * processed. A stored procedure which runs out of its execution time processes only a part of the chunk, hence the
+ * next chunk starts from the first document which is not processed yet. The execution ends once all documents are
+ * processed, or fails if an execution processes no document.
+ */
+final class StoredProcedureBulkExecution {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final long DEFAULT_MAX_CHUNK_SIZE = 1024 * 1024;
+
+    private final List<Object> documents;
+    private final int[] documentSizes;
+    private final List<Object> parameters;
+    private final long maxChunkSize;
+    private int processedCount;
+    private int executionCount;
+    private double requestCharge;
+    private String sessionToken;
+
+    StoredProcedureBulkExecution(BArray documents, Object bulkOptions) throws JsonProcessingException {
+        int size = documents.size();
+        this.documents = new ArrayList<>(size);
+        this.documentSizes = new int[size];
+        for (int i = 0; i < size; i++) {
+            Object document = BallerinaDocument.toSdkValue(documents.get(i));
+            this.documents.add(document);
+            // The separator of the document in the array is counted as well.
+            this.documentSizes[i] = OBJECT_MAPPER.writeValueAsBytes(document).length + 1;
+        }
+        BMap<BString, Object> options = (BMap<BString, Object>) bulkOptions;
+        this.parameters = options != null && options.containsKey(PARAMETERS) ?
+                Utils.toProcedureParams(options.getArrayValue(PARAMETERS)) : new ArrayList<>();
+        this.maxChunkSize = options != null && options.containsKey(MAX_CHUNK_SIZE) ?
+                options.getIntValue(MAX_CHUNK_SIZE) : DEFAULT_MAX_CHUNK_SIZE;
+    }
+
+    /**
+     * Executes the stored procedure until all documents are processed.
+     *
+     * @param storedProcedure The stored procedure
+     * @param options         Request options of the executions
+     * @return The result of the bulk execution
+     */
+    Mono<Object> execute(CosmosAsyncStoredProcedure storedProcedure, CosmosStoredProcedureRequestOptions options) {
+        if (processedCount == documents.size()) {
+            return Mono.fromSupplier(this::createResult);
+        }
+        int chunkEnd = getChunkEnd();
+        List<Object> procedureParams = new ArrayList<>(parameters.size() + 1);
+        procedureParams.add(documents.subList(processedCount, chunkEnd));
+        procedureParams.addAll(parameters);
+        return storedProcedure.execute(procedureParams, options).flatMap(response -> {
+            int processed = getProcessedCount(response, chunkEnd - processedCount);
+            executionCount++;
+            requestCharge += response.getRequestCharge();
+            sessionToken = response.getSessionToken();
+            if (processed == 0) {
+                return Mono.error(new IllegalStateException(String.format("Stored procedure processed none of " +
+                        "%d documents, after processing %d of %d documents", chunkEnd - processedCount,
+                        processedCount, documents.size())));
+            }
+            processedCount += processed;
+            return execute(storedProcedure, options);
+        });
+    }
+
+    /**
+     * Returns the session token of the last completed execution.
+     *
+     * @return The session token, or `null` if no execution has completed
+     */
+    String getSessionToken() {
+        return sessionToken;
+    }
+
+    private int getChunkEnd() {
+        // A chunk holds at least one document, even if the document alone exceeds the maximum chunk size.
+        int chunkEnd = processedCount + 1;
+        long chunkSize = documentSizes[processedCount];
+        while (chunkEnd < documents.size() && chunkSize + documentSizes[chunkEnd] <= maxChunkSize) {
+            chunkSize += documentSizes[chunkEnd];
+            chunkEnd++;
+        }
+        return chunkEnd;
+    }
+
+    private static int getProcessedCount(CosmosStoredProcedureResponse response, int chunkLength) {
+        String body = response.getResponseAsString();
+        try {
+            int processed = Integer.parseInt(body == null ? "" : body.trim());
+            if (processed >= 0 && processed <= chunkLength) {
+                return processed;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below along with out of range counts.
+        }
+        throw new IllegalStateException(String.format("Stored procedure must respond with the number of processed " +
+                "documents of the chunk of %d documents, but responded with '%s'", chunkLength, body));
+    }
+
+    private Object createResult() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("processedCount", (long) processedCount);
+        result.put("executionCount", (long) executionCount);
+        result.put("requestCharge", requestCharge);
+        if (sessionToken != null) {
+            result.put("sessionToken", sessionToken);
+        }
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), STORED_PROCEDURE_BULK_RESULT, result);
+    }
+}
@@ -19,51 +19,92 @@
 package io.ballerinax.cosmosdb;
 
 import com.azure.cosmos.ConsistencyLevel;
+import com.azure.cosmos.CosmosAsyncClient;
+import com.azure.cosmos.CosmosAsyncContainer;
+import com.azure.cosmos.CosmosContainerProactiveInitConfig;
+import com.azure.cosmos.CosmosContainerProactiveInitConfigBuilder;
 import com.azure.cosmos.CosmosClientBuilder;
 import com.azure.cosmos.CosmosDiagnostics;
+import com.azure.cosmos.CosmosEndToEndOperationLatencyPolicyConfig;
+import com.azure.cosmos.CosmosEndToEndOperationLatencyPolicyConfigBuilder;
 import com.azure.cosmos.DirectConnectionConfig;
 import com.azure.cosmos.GatewayConnectionConfig;
+import com.azure.cosmos.GlobalThroughputControlConfigBuilder;
+import com.azure.cosmos.ThresholdBasedAvailabilityStrategy;
+import com.azure.cosmos.ThroughputControlGroupConfigBuilder;
+import com.azure.cosmos.models.CosmosBatchRequestOptions;
+import com.azure.cosmos.models.CosmosBulkExecutionOptions;
+import com.azure.cosmos.models.CosmosChangeFeedRequestOptions;
+import com.azure.cosmos.models.CosmosContainerIdentity;
 import com.azure.cosmos.models.CosmosItemRequestOptions;
 import com.azure.cosmos.models.CosmosItemResponse;
+import com.azure.cosmos.models.CosmosPatchItemRequestOptions;
 import com.azure.cosmos.models.CosmosQueryRequestOptions;
 import com.azure.cosmos.models.CosmosStoredProcedureRequestOptions;
 import com.azure.cosmos.models.CosmosStoredProcedureResponse;
 import com.azure.cosmos.models.DedicatedGatewayRequestOptions;
+import com.azure.cosmos.models.FeedRange;
+import com.azure.cosmos.models.FeedResponse;
 import com.azure.cosmos.models.IndexingDirective;
 import com.azure.cosmos.models.PartitionKey;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.azure.cosmos.models.PriorityLevel;
+import com.azure.cosmos.models.SqlParameter;
+import com.azure.cosmos.models.SqlQuerySpec;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.ballerina.runtime.api.PredefinedTypes;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.utils.JsonUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BValue;
 
+import java.math.BigDecimal;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+import static io.ballerinax.cosmosdb.Constants.AGGRESSIVE_WARMUP_DURATION;
+import static io.ballerinax.cosmosdb.Constants.AVAILABILITY_STRATEGY;
 import static io.ballerinax.cosmosdb.Constants.BOUNDED_STALENESS;
 import static io.ballerinax.cosmosdb.Constants.CONNECTION_ENDPOINT_REDESCOVERY;
 import static io.ballerinax.cosmosdb.Constants.CONNECTION_SHARING_ACROSS_CLIENTS;
 import static io.ballerinax.cosmosdb.Constants.CONNECTION_TIMEOUT;
 import static io.ballerinax.cosmosdb.Constants.CONSISTENCY_LEVEL;
 import static io.ballerinax.cosmosdb.Constants.CONSISTENT_PREFIX;
+import static io.ballerinax.cosmosdb.Constants.CONTAINERS;
+import static io.ballerinax.cosmosdb.Constants.CONTAINER_ID;
 import static io.ballerinax.cosmosdb.Constants.CONTENT_RESPONSE_ON_WRITE_ENABLED;
+import static io.ballerinax.cosmosdb.Constants.CONTINUATION_TOKEN;
+import static io.ballerinax.cosmosdb.Constants.CONTROL_ITEM_EXPIRE_INTERVAL;
+import static io.ballerinax.cosmosdb.Constants.CONTROL_ITEM_RENEW_INTERVAL;
+import static io.ballerinax.cosmosdb.Constants.DATABASE_ID;
 import static io.ballerinax.cosmosdb.Constants.DEDICATED_GATEWAY_REQUEST_OPTIONS;
 import static io.ballerinax.cosmosdb.Constants.DIAGNOSTICS;
 import static io.ballerinax.cosmosdb.Constants.DIRECT_CONNECTION_CONFIG;
 import static io.ballerinax.cosmosdb.Constants.DIRECT_MODE;
 import static io.ballerinax.cosmosdb.Constants.DOCUMENT_RESPONSE;
+import static io.ballerinax.cosmosdb.Constants.END_TO_END_TIMEOUT;
 import static io.ballerinax.cosmosdb.Constants.EVENTUAL;
 import static io.ballerinax.cosmosdb.Constants.EXCLUDE;
+import static io.ballerinax.cosmosdb.Constants.FEED_RANGE;
+import static io.ballerinax.cosmosdb.Constants.FILTER_PREDICATE;
 import static io.ballerinax.cosmosdb.Constants.GATEWAY_CONNECTION_CONFIG;
+import static io.ballerinax.cosmosdb.Constants.GLOBAL;
+import static io.ballerinax.cosmosdb.Constants.GROUP_NAME;
 import static io.ballerinax.cosmosdb.Constants.IDLE_CONNECTION_TIMEOUT;
 import static io.ballerinax.cosmosdb.Constants.IDLE_ENDPOINT_TIMEOUT;
 import static io.ballerinax.cosmosdb.Constants.IF_MATCH_ETAG;
@@ -71,31 +112,54 @@ import static io.ballerinax.cosmosdb.Constants.IF_NONE_MATCH_ETAG;
 import static io.ballerinax.cosmosdb.Constants.INCLUDE;
 import static io.ballerinax.cosmosdb.Constants.INDEXING_DIRECTIVE;
 import static io.ballerinax.cosmosdb.Constants.INDEX_METRICS_ENABLED;
+import static io.ballerinax.cosmosdb.Constants.INITIAL_MICRO_BATCH_SIZE;
+import static io.ballerinax.cosmosdb.Constants.IS_DEFAULT;
+import static io.ballerinax.cosmosdb.Constants.ITEMS;
 import static io.ballerinax.cosmosdb.Constants.LIMIT_KB;
 import static io.ballerinax.cosmosdb.Constants.MAX_BUFFERED_ITEM_COUNT;
 import static io.ballerinax.cosmosdb.Constants.MAX_CONNECTIONS_PER_ENDPOINT;
 import static io.ballerinax.cosmosdb.Constants.MAX_CONNECTION_POOL_SIZE;
 import static io.ballerinax.cosmosdb.Constants.MAX_DEGREE_PARALLELISM;
 import static io.ballerinax.cosmosdb.Constants.MAX_INTEGRATED_CACHE_STALENESS;
+import static io.ballerinax.cosmosdb.Constants.MAX_ITEM_COUNT;
+import static io.ballerinax.cosmosdb.Constants.MAX_MICRO_BATCH_CONCURRENCY;
 import static io.ballerinax.cosmosdb.Constants.MAX_REQUESTS_PER_CONNECTION;
 import static io.ballerinax.cosmosdb.Constants.NETWORK_TIMEOUT;
+import static io.ballerinax.cosmosdb.Constants.OPERATIONS;
 import static io.ballerinax.cosmosdb.Constants.PARAMETERS;
 import static io.ballerinax.cosmosdb.Constants.PARTITION_KEY;
+import static io.ballerinax.cosmosdb.Constants.POINT_IN_TIME;
 import static io.ballerinax.cosmosdb.Constants.POST_TRIGGER_INCLUDE;
 import static io.ballerinax.cosmosdb.Constants.PREFERRED_REGIONS;
 import static io.ballerinax.cosmosdb.Constants.PRE_TRIGGER_INCLUDE;
+import static io.ballerinax.cosmosdb.Constants.PRIORITY;
+import static io.ballerinax.cosmosdb.Constants.PRIORITY_BACKGROUND;
+import static io.ballerinax.cosmosdb.Constants.PROACTIVE_CONNECTION_REGIONS_COUNT;
+import static io.ballerinax.cosmosdb.Constants.QUERY;
 import static io.ballerinax.cosmosdb.Constants.QUERY_METRICS_ENABLED;
+import static io.ballerinax.cosmosdb.Constants.RESPONSE_SHAPE_FULL;
+import static io.ballerinax.cosmosdb.Constants.RESPONSE_SHAPE_MINIMAL;
 import static io.ballerinax.cosmosdb.Constants.SCAN_QUERY_ENABLED;
 import static io.ballerinax.cosmosdb.Constants.SCRIPT_LOGGING_ENABLED;
 import static io.ballerinax.cosmosdb.Constants.SESSION;
 import static io.ballerinax.cosmosdb.Constants.SESSION_TOKEN;
 import static io.ballerinax.cosmosdb.Constants.SP_PROCEDURE_REQUEST_OPTIONS;
+import static io.ballerinax.cosmosdb.Constants.START_FROM;
+import static io.ballerinax.cosmosdb.Constants.START_FROM_BEGINNING;
+import static io.ballerinax.cosmosdb.Constants.START_FROM_NOW;
+import static io.ballerinax.cosmosdb.Constants.START_FROM_POINT_IN_TIME;
 import static io.ballerinax.cosmosdb.Constants.STORED_PROCEDURE_RESPONSE;
 import static io.ballerinax.cosmosdb.Constants.STRONG;
+import static io.ballerinax.cosmosdb.Constants.TARGET_THROUGHPUT;
+import static io.ballerinax.cosmosdb.Constants.TARGET_THROUGHPUT_THRESHOLD;
+import static io.ballerinax.cosmosdb.Constants.THRESHOLD;
 import static io.ballerinax.cosmosdb.Constants.THRESHOLD_DIAGNOSIS_TRACER;
 import static io.ballerinax.cosmosdb.Constants.THRESHOLD_FOR_DIAGNOSTICS;
+import static io.ballerinax.cosmosdb.Constants.THRESHOLD_STEP;
 import static io.ballerinax.cosmosdb.Constants.THROUHPUT_CONTROL;
 import static io.ballerinax.cosmosdb.Constants.USER_AGENT_SUFFIX;
+import static io.ballerinax.cosmosdb.Constants.WARM_UP;
+import static io.ballerinax.cosmosdb.Constants.WARM_UP_STATISTICS;
 
 /**
  * This class provides utility methods for configuring Azure CosmosDB interactions and creating request options.
@@ -129,7 +193,120 @@ public class Utils {
                 cosmosClientBuilder.contentResponseOnWriteEnabled(customConfigMap.
                         getBooleanValue(CONTENT_RESPONSE_ON_WRITE_ENABLED));
             }
+            if (customConfigMap.containsKey(WARM_UP)) {
+                cosmosClientBuilder.openConnectionsAndInitCaches(createProactiveInitConfig(
+                        (BMap<BString, Object>) customConfigMap.getMapValue(WARM_UP)));
+            }
+        }
+    }
+
+    private static CosmosContainerProactiveInitConfig createProactiveInitConfig(BMap<BString, Object> warmUpConfig) {
+        BArray containers = warmUpConfig.getArrayValue(CONTAINERS);
+        List<CosmosContainerIdentity> containerIdentities = new ArrayList<>(containers.size());
+        for (int i = 0; i < containers.size(); i++) {
+            BMap<BString, Object> container = (BMap<BString, Object>) containers.get(i);
+            containerIdentities.add(new CosmosContainerIdentity(container.getStringValue(DATABASE_ID).getValue(),
+                    container.getStringValue(CONTAINER_ID).getValue()));
+        }
+        CosmosContainerProactiveInitConfigBuilder builder =
+                new CosmosContainerProactiveInitConfigBuilder(containerIdentities)
+                        .setProactiveConnectionRegionsCount(
+                                warmUpConfig.getIntValue(PROACTIVE_CONNECTION_REGIONS_COUNT).intValue());
+        if (warmUpConfig.containsKey(AGGRESSIVE_WARMUP_DURATION)) {
+            // Building the client blocks for this duration while the connections are opened.
+            builder.setAggressiveWarmupDuration(Duration.ofSeconds(
+                    warmUpConfig.getIntValue(AGGRESSIVE_WARMUP_DURATION)));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Creates the end-to-end latency policy of an operation of a client, which hedges the requests of the operation to
+     * the next preferred regions once they do not complete within the threshold of the availability strategy.
+     *
+     * @param customConfig The `cosmosdb:CustomClientConfiguration` record of the client, or `null`
+     * @param operation    The `cosmosdb:HedgedOperation` value of the operation
+     * @return The policy, or `null` if the operation is not hedged
+     */
+    static CosmosEndToEndOperationLatencyPolicyConfig createLatencyPolicy(Object customConfig, String operation) {
+        if (customConfig == null || !((BMap<BString, Object>) customConfig).containsKey(AVAILABILITY_STRATEGY)) {
+            return null;
+        }
+        BMap<BString, Object> strategy = (BMap<BString, Object>) ((BMap<BString, Object>) customConfig)
+                .getMapValue(AVAILABILITY_STRATEGY);
+        if (!Arrays.asList(strategy.getArrayValue(OPERATIONS).getStringArray()).contains(operation)) {
+            return null;
+        }
+        return new CosmosEndToEndOperationLatencyPolicyConfigBuilder(
+                Duration.ofMillis(strategy.getIntValue(END_TO_END_TIMEOUT)))
+                .availabilityStrategy(new ThresholdBasedAvailabilityStrategy(
+                        Duration.ofMillis(strategy.getIntValue(THRESHOLD)),
+                        Duration.ofMillis(strategy.getIntValue(THRESHOLD_STEP))))
+                .enable(true)
+                .build();
+    }
+
+    /**
+     * Enables the throughput control groups of a client on their containers. The client throttles the requests of a
+     * group, so that the request units they consume each second stay within the budget of the group.
+     *
+     * @param cosmosClient The Cosmos DB client
+     * @param groups       The `cosmosdb:ThroughputControlGroupConfig` records
+     */
+    public static void enableThroughputControlGroups(CosmosAsyncClient cosmosClient, BArray groups) {
+        for (int i = 0; i < groups.size(); i++) {
+            BMap<BString, Object> group = (BMap<BString, Object>) groups.get(i);
+            ThroughputControlGroupConfigBuilder builder = new ThroughputControlGroupConfigBuilder()
+                    .groupName(group.getStringValue(GROUP_NAME).getValue())
+                    .priorityLevel(PRIORITY_BACKGROUND.equals(group.getStringValue(PRIORITY).getValue()) ?
+                            PriorityLevel.LOW : PriorityLevel.HIGH)
+                    .defaultControlGroup(group.getBooleanValue(IS_DEFAULT));
+            if (group.containsKey(TARGET_THROUGHPUT)) {
+                builder.targetThroughput(group.getIntValue(TARGET_THROUGHPUT).intValue());
+            }
+            if (group.containsKey(TARGET_THROUGHPUT_THRESHOLD)) {
+                builder.targetThroughputThreshold(group.getFloatValue(TARGET_THROUGHPUT_THRESHOLD));
+            }
+            CosmosAsyncContainer container = cosmosClient.getDatabase(group.getStringValue(DATABASE_ID).getValue())
+                    .getContainer(group.getStringValue(CONTAINER_ID).getValue());
+            if (!group.containsKey(GLOBAL)) {
+                container.enableLocalThroughputControlGroup(builder.build());
+                continue;
+            }
+            BMap<BString, Object> globalConfig = (BMap<BString, Object>) group.getMapValue(GLOBAL);
+            GlobalThroughputControlConfigBuilder globalBuilder =
+                    cosmosClient.createGlobalThroughputControlConfigBuilder(
+                            globalConfig.getStringValue(DATABASE_ID).getValue(),
+                            globalConfig.getStringValue(CONTAINER_ID).getValue());
+            if (globalConfig.containsKey(CONTROL_ITEM_RENEW_INTERVAL)) {
+                globalBuilder.setControlItemRenewInterval(Duration.ofSeconds(
+                        globalConfig.getIntValue(CONTROL_ITEM_RENEW_INTERVAL)));
+            }
+            if (globalConfig.containsKey(CONTROL_ITEM_EXPIRE_INTERVAL)) {
+                globalBuilder.setControlItemExpireInterval(Duration.ofSeconds(
+                        globalConfig.getIntValue(CONTROL_ITEM_EXPIRE_INTERVAL)));
+            }
+            container.enableGlobalThroughputControlGroup(builder.build(), globalBuilder.build());
+        }
+    }
+
+    /**
+     * Creates the `cosmosdb:WarmUpStatistics` record of a client.
+     *
+     * @param customConfig Custom configuration of the client
+     * @param duration     Time the initialization of the client waited for the warm-up
+     * @return The statistics, or `null` if the client is not warmed up
+     */
+    public static Object createWarmUpStatistics(Object customConfig, Duration duration) {
+        if (customConfig == null || !((BMap<BString, Object>) customConfig).containsKey(WARM_UP)) {
+            return null;
         }
+        BMap<BString, Object> warmUpConfig = (BMap<BString, Object>) ((BMap<BString, Object>) customConfig)
+                .getMapValue(WARM_UP);
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("containers", (long) warmUpConfig.getArrayValue(CONTAINERS).size());
+        statistics.put("duration", duration.toMillis());
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), WARM_UP_STATISTICS, statistics);
     }
 
     private static void setDirectMode(CosmosClientBuilder cosmosClientBuilder, BMap<BString, BValue> mapValue) {
@@ -162,7 +339,22 @@ public class Utils {
     }
 
     public static CosmosItemRequestOptions createRequestOptions(Object requestOptions) {
-        CosmosItemRequestOptions options = new CosmosItemRequestOptions();
+        return setItemRequestOptions(new CosmosItemRequestOptions(), requestOptions);
+    }
+
+    public static CosmosPatchItemRequestOptions createPatchRequestOptions(Object patchOptions) {
+        CosmosPatchItemRequestOptions options = setItemRequestOptions(new CosmosPatchItemRequestOptions(),
+                patchOptions);
+        if (patchOptions != null) {
+            BMap<BString, Object> mapValue = ((BMap<BString, Object>) patchOptions);
+            if (mapValue.containsKey(FILTER_PREDICATE)) {
+                options.setFilterPredicate(mapValue.getStringValue(FILTER_PREDICATE).getValue());
+            }
+        }
+        return options;
+    }
+
+    private static <T extends CosmosItemRequestOptions> T setItemRequestOptions(T options, Object requestOptions) {
         if (requestOptions != null) {
             BMap<BString, Object> mapValue = ((BMap<BString, Object>) requestOptions);
             if (mapValue.containsKey(CONSISTENCY_LEVEL)) {
@@ -193,7 +385,7 @@ public class Utils {
                         getStringArray()));
             }
             if (mapValue.containsKey(SESSION_TOKEN)) {
-                options.setThroughputControlGroupName(mapValue.getStringValue(SESSION_TOKEN).getValue());
+                options.setSessionToken(mapValue.getStringValue(SESSION_TOKEN).getValue());
             }
             if (mapValue.containsKey(THRESHOLD_FOR_DIAGNOSTICS)) {
                 options.setThresholdForDiagnosticsOnTracer(Duration.ofSeconds(
@@ -206,6 +398,21 @@ public class Utils {
         return options;
     }
 
+    public static SqlQuerySpec createQuerySpec(Object sqlQuery) {
+        if (sqlQuery instanceof BString) {
+            return new SqlQuerySpec(((BString) sqlQuery).getValue());
+        }
+        BMap<BString, Object> querySpec = (BMap<BString, Object>) sqlQuery;
+        BMap<BString, Object> parameterValues = (BMap<BString, Object>) querySpec.getMapValue(PARAMETERS);
+        List<SqlParameter> parameters = new ArrayList<>();
+        for (Map.Entry<BString, Object> parameter : parameterValues.entrySet()) {
+            String name = parameter.getKey().getValue();
+            parameters.add(new SqlParameter(name.startsWith("@") ? name : "@" + name,
+                    BallerinaDocument.toSdkValue(parameter.getValue())));
+        }
+        return new SqlQuerySpec(querySpec.getStringValue(QUERY).getValue(), parameters);
+    }
+
     public static CosmosQueryRequestOptions setQueryOptions(Object requestOptions) {
         CosmosQueryRequestOptions options = new CosmosQueryRequestOptions();
         if (requestOptions != null) {
@@ -248,6 +455,9 @@ public class Utils {
             if (mapValue.containsKey(THROUHPUT_CONTROL)) {
                 options.setThroughputControlGroupName(mapValue.getStringValue(THROUHPUT_CONTROL).getValue());
             }
+            if (mapValue.containsKey(FEED_RANGE)) {
+                options.setFeedRange(FeedRange.fromString(mapValue.getStringValue(FEED_RANGE).getValue()));
+            }
         }
         return options;
     }
@@ -330,6 +540,95 @@ public class Utils {
         return options;
     }
 
+    public static String getSessionToken(Object requestOptions) {
+        if (requestOptions == null) {
+            return null;
+        }
+        BMap<BString, Object> mapValue = (BMap<BString, Object>) requestOptions;
+        return mapValue.containsKey(SESSION_TOKEN) ? mapValue.getStringValue(SESSION_TOKEN).getValue() : null;
+    }
+
+    public static CosmosBatchRequestOptions setBatchRequestOptions(Object batchOptions) {
+        CosmosBatchRequestOptions options = new CosmosBatchRequestOptions();
+        if (batchOptions != null) {
+            BMap<BString, Object> mapValue = (BMap<BString, Object>) batchOptions;
+            if (mapValue.containsKey(SESSION_TOKEN)) {
+                options.setSessionToken(mapValue.getStringValue(SESSION_TOKEN).getValue());
+            }
+        }
+        return options;
+    }
+
+    public static CosmosChangeFeedRequestOptions setChangeFeedOptions(Object changeFeedOptions) {
+        BMap<BString, Object> mapValue = (BMap<BString, Object>) changeFeedOptions;
+        CosmosChangeFeedRequestOptions options;
+        if (mapValue.containsKey(CONTINUATION_TOKEN)) {
+            // The continuation token carries the feed range and the position within it.
+            options = CosmosChangeFeedRequestOptions.createForProcessingFromContinuation(
+                    mapValue.getStringValue(CONTINUATION_TOKEN).getValue());
+        } else {
+            FeedRange feedRange = mapValue.containsKey(FEED_RANGE) ?
+                    FeedRange.fromString(mapValue.getStringValue(FEED_RANGE).getValue()) : FeedRange.forFullRange();
+            String startFrom = mapValue.getStringValue(START_FROM).getValue();
+            switch (startFrom) {
+                case START_FROM_BEGINNING:
+                    options = CosmosChangeFeedRequestOptions.createForProcessingFromBeginning(feedRange);
+                    break;
+                case START_FROM_NOW:
+                    options = CosmosChangeFeedRequestOptions.createForProcessingFromNow(feedRange);
+                    break;
+                case START_FROM_POINT_IN_TIME:
+                    if (!mapValue.containsKey(POINT_IN_TIME)) {
+                        throw new IllegalArgumentException("A point in time is required to start from a point in time");
+                    }
+                    options = CosmosChangeFeedRequestOptions.createForProcessingFromPointInTime(
+                            toInstant(mapValue.getArrayValue(POINT_IN_TIME)), feedRange);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported change feed start position: " + startFrom);
+            }
+        }
+        if (mapValue.containsKey(MAX_ITEM_COUNT)) {
+            options.setMaxItemCount(mapValue.getIntValue(MAX_ITEM_COUNT).intValue());
+        }
+        if (mapValue.containsKey(THROUHPUT_CONTROL)) {
+            options.setThroughputControlGroupName(mapValue.getStringValue(THROUHPUT_CONTROL).getValue());
+        }
+        return options;
+    }
+
+    private static Instant toInstant(BArray utc) {
+        // `time:Utc` is a tuple of the seconds from the epoch and the fraction of the second.
+        BigDecimal fraction = ((BDecimal) utc.get(1)).decimalValue();
+        return Instant.ofEpochSecond(utc.getInt(0), fraction.movePointRight(9).longValue());
+    }
+
+    public static Object createFeedRangeArray(List<FeedRange> feedRanges) {
+        BString[] ranges = new BString[feedRanges.size()];
+        for (int i = 0; i < ranges.length; i++) {
+            ranges[i] = fromString(feedRanges.get(i).toString());
+        }
+        return ValueCreator.createArrayValue(ranges);
+    }
+
+    public static CosmosBulkExecutionOptions setBulkExecutionOptions(Object bulkOptions) {
+        CosmosBulkExecutionOptions options = new CosmosBulkExecutionOptions();
+        if (bulkOptions != null) {
+            BMap<BString, Object> mapValue = (BMap<BString, Object>) bulkOptions;
+            if (mapValue.containsKey(MAX_MICRO_BATCH_CONCURRENCY)) {
+                options.setMaxMicroBatchConcurrency(Math.toIntExact(mapValue.getIntValue(
+                        MAX_MICRO_BATCH_CONCURRENCY)));
+            }
+            if (mapValue.containsKey(INITIAL_MICRO_BATCH_SIZE)) {
+                options.setInitialMicroBatchSize(Math.toIntExact(mapValue.getIntValue(INITIAL_MICRO_BATCH_SIZE)));
+            }
+            if (mapValue.containsKey(THROUHPUT_CONTROL)) {
+                options.setThroughputControlGroupName(mapValue.getStringValue(THROUHPUT_CONTROL).getValue());
+            }
+        }
+        return options;
+    }
+
     public static CosmosStoredProcedureRequestOptions setStoredProcedureRequestOptions(Object requestOptions) {
         CosmosStoredProcedureRequestOptions options = new CosmosStoredProcedureRequestOptions();
         setStoredProcedureRequestOptions(options, requestOptions);
@@ -375,32 +674,38 @@ public class Utils {
         if (requestOptions != null) {
             BMap<BString, Object> mapValue = (BMap<BString, Object>) requestOptions;
             if (mapValue.containsKey(PARAMETERS)) {
-                BArray value = mapValue.getArrayValue(PARAMETERS);
-                return Arrays.asList(value.getStringArray());
+                return toProcedureParams(mapValue.getArrayValue(PARAMETERS));
             }
         }
         return null;
     }
 
+    static List<Object> toProcedureParams(BArray parameters) {
+        int size = parameters.size();
+        List<Object> procedureParams = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            procedureParams.add(BallerinaDocument.toSdkValue(parameters.get(i)));
+        }
+        return procedureParams;
+    }
+
     /**
      * Convert Map to BMap.
      *
      * @param object Object used to convert to BMap.
      * @return Converted BMap object.
      */
-    private static BMap<BString, Object> toBMap(Object object) {
-        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
-        Map map = objectMapper.convertValue(object, Map.class);
+    private static BMap<BString, Object> toBMap(Map<String, String> headers) {
         BMap<BString, Object> returnMap = ValueCreator.createMapValue(MAP_TYPE);
-        if (map != null) {
-            for (Object aKey : map.keySet().toArray()) {
-                returnMap.put(fromString(aKey.toString()), fromString(map.get(aKey).toString()));
+        if (headers != null) {
+            for (Map.Entry<String, String> header : headers.entrySet()) {
+                returnMap.put(fromString(header.getKey()), fromString(header.getValue()));
             }
         }
         return returnMap;
     }
 
-    private static BMap<BString, Object> createDiagnosticsRecord(CosmosDiagnostics diagnostics) {
+    static BMap<BString, Object> createDiagnosticsRecord(CosmosDiagnostics diagnostics) {
         Map<String, Object> responseMap = new HashMap<>();
         Object[] objectArr = diagnostics.getRegionsContacted().toArray();
         BString[] bStringArr = new BString[objectArr.length];
@@ -409,35 +714,107 @@ public class Utils {
             bStringArr[i] = bString;
         }
         responseMap.put("regionsContacted", ValueCreator.createArrayValue(bStringArr));
+        responseMap.put("servingRegions", toBStringArray(diagnostics.getContactedRegionNames()));
+        if (diagnostics.getDiagnosticsContext() != null) {
+            responseMap.put("operationRegions",
+                    toBStringArray(diagnostics.getDiagnosticsContext().getContactedRegionNames()));
+        }
         responseMap.put("duration", diagnostics.getDuration().toMillis());
         BMap<BString, Object> createdResponse = ValueCreator.createRecordValue(ModuleUtils.getModule(), DIAGNOSTICS,
                 responseMap);
         return createdResponse;
     }
 
-    public static Object createDocumentResponse(CosmosItemResponse response) {
+    private static BArray toBStringArray(Collection<String> values) {
+        BString[] array = new BString[values.size()];
+        int i = 0;
+        for (String value : values) {
+            array[i++] = fromString(value);
+        }
+        return ValueCreator.createArrayValue(array);
+    }
+
+    /**
+     * Creates the `cosmosdb:DocumentResponse` record of an item response. A `Minimal` response leaves out the
+     * document, and only a `Full` response carries the response headers and the diagnostics.
+     *
+     * @param response      The item response
+     * @param responseShape The `cosmosdb:ResponseShape` value
+     * @return The `cosmosdb:DocumentResponse` record
+     */
+    public static Object createDocumentResponse(CosmosItemResponse<?> response, String responseShape) {
         Map<String, Object> responseMap = new HashMap<>();
         responseMap.put("activityId", response.getActivityId());
         responseMap.put("currentResourceQuotaUsage", response.getCurrentResourceQuotaUsage());
-        responseMap.put("diagnostics", createDiagnosticsRecord(response.getDiagnostics()));
         responseMap.put("duration", response.getDuration().toMillis());
         responseMap.put("etag", response.getETag());
-        responseMap.put("item", response.getItem());
+        if (!RESPONSE_SHAPE_MINIMAL.equals(responseShape)) {
+            Object item = response.getItem();
+            responseMap.put("item", item instanceof BallerinaDocument ? ((BallerinaDocument) item).getValue() : item);
+        }
         responseMap.put("maxResourceQuota", response.getMaxResourceQuota());
         responseMap.put("requestCharge", response.getRequestCharge());
-        responseMap.put("responseHeaders", toBMap(response.getResponseHeaders()));
+        if (RESPONSE_SHAPE_FULL.equals(responseShape)) {
+            responseMap.put("diagnostics", createDiagnosticsRecord(response.getDiagnostics()));
+            responseMap.put("responseHeaders", toBMap(response.getResponseHeaders()));
+        } else {
+            responseMap.put("responseHeaders", ValueCreator.createMapValue(MAP_TYPE));
+        }
         responseMap.put("sessionToken", response.getSessionToken());
         responseMap.put("statusCode", response.getStatusCode());
-        BMap<BString, Object> createdResponse = ValueCreator.createRecordValue(ModuleUtils.getModule(),
-                DOCUMENT_RESPONSE, responseMap);
-        return createdResponse;
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), DOCUMENT_RESPONSE, responseMap);
+    }
+
+    /**
+     * Creates the page of a query which returned no page, such as a query continued from the token of its last page.
+     *
+     * @param pageType Record type of the page
+     * @return The page without items and without a continuation token
+     */
+    public static Object createEmptyDocumentPage(RecordType pageType) {
+        BMap<BString, Object> page = ValueCreator.createRecordValue(pageType);
+        ArrayType itemsType = (ArrayType) TypeUtils.getReferredType(pageType.getFields().get(ITEMS).getFieldType());
+        page.put(fromString(ITEMS), ValueCreator.createArrayValue(itemsType));
+        page.put(fromString("requestCharge"), 0.0);
+        return page;
+    }
+
+    public static Object createDocumentPage(FeedResponse<JsonNode> response, RecordType pageType) {
+        BMap<BString, Object> page = ValueCreator.createRecordValue(pageType);
+        ArrayType itemsType = (ArrayType) TypeUtils.getReferredType(pageType.getFields().get(ITEMS).getFieldType());
+        RecordType itemType = (RecordType) TypeUtils.getReferredType(itemsType.getElementType());
+        BArray items = ValueCreator.createArrayValue(itemsType);
+        for (JsonNode item : response.getResults()) {
+            Object result = RecordIteratorUtils.createRecord(item, itemType);
+            if (result instanceof BError) {
+                return result;
+            }
+            items.append(result);
+        }
+        page.put(fromString(ITEMS), items);
+        if (response.getContinuationToken() != null) {
+            page.put(CONTINUATION_TOKEN, fromString(response.getContinuationToken()));
+        }
+        page.put(fromString("requestCharge"), response.getRequestCharge());
+        if (response.getCosmosDiagnostics() != null) {
+            page.put(fromString("diagnostics"), createDiagnosticsRecord(response.getCosmosDiagnostics()));
+        }
+        return page;
     }
 
     public static Object createStoredProcedureMap(CosmosStoredProcedureResponse response) {
         Map<String, Object> responseMap = new HashMap<>();
         responseMap.put("activityId", response.getActivityId());
         responseMap.put("requestCharge", response.getRequestCharge());
-        responseMap.put("responseAsString", response.getResponseAsString());
+        String responseAsString = response.getResponseAsString();
+        responseMap.put("responseAsString", responseAsString);
+        if (responseAsString != null && !responseAsString.isEmpty()) {
+            try {
+                responseMap.put("responseAsJson", JsonUtils.parse(responseAsString));
+            } catch (BError e) {
+                // The response is left only as a string if it is not JSON.
+            }
+        }
         responseMap.put("scriptLog", response.getScriptLog());
         responseMap.put("sessionToken", response.getSessionToken());
         responseMap.put("statusCode", response.getStatusCode());
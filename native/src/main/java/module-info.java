@@ -19,6 +19,7 @@
  module io.ballerinax.cosmosdb {
     requires io.ballerina.runtime;
     requires com.azure.cosmos;
+    requires micrometer.core;
     requires io.ballerina.lang.value;
 
     exports io.ballerinax.cosmosdb;